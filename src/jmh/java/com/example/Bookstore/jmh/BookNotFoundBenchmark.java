@@ -0,0 +1,73 @@
+package com.example.Bookstore.jmh;
+
+import com.example.Bookstore.BookstoreApplication;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// GET /api/v1/books/{id} for an id that does not exist, through the security filters, the throttling interceptor, the
+// exception resolver and JSON rendering of the error body; the cached hit is the reference for what a 404 should cost.
+// The whole MVC stack takes far longer to JIT-compile than the single-class benchmarks, hence the long warm-up
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 15, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class BookNotFoundBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private Long bookId;
+    private long missingId = 1_000_000_000L;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BookstoreApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.file.name=target/jmh-app.log")
+                .run();
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).apply(springSecurity()).build();
+        bookId = context.getBean(BookService.class).addBook(new BookDTO("Refactoring Code", "Martin Fowler", new BigDecimal("50.00"))).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    // A different id each call, like a scraper walking the id space; misses are not cached
+    @Benchmark
+    public int getMissingBook() throws Exception {
+        return mockMvc.perform(get("/api/v1/books/{id}", missingId++).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int getCachedBook() throws Exception {
+        return mockMvc.perform(get("/api/v1/books/{id}", bookId).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Bookstore.jmh;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+// Bytes on the wire and Jackson cost of a 10k-book list in each negotiated format (JSON, Smile, CBOR), raw and with
+// the gzip server.compression applies. Payload sizes are printed once per format in setUp
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookPayloadFormatBenchmark {
+
+    private static final int BOOKS = 10_000;
+    private static final TypeReference<List<BookDTO>> BOOK_DTOS = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<Book> books;
+    private byte[] bookDTOs;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Built like PayloadFormatConfig's converters: Spring Boot's Jackson defaults on the format's factory
+        final var builder = Jackson2ObjectMapperBuilder.json();
+        objectMapper = switch (format) {
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> builder.build();
+        };
+        books = LongStream.rangeClosed(1, BOOKS).mapToObj(BookPayloadFormatBenchmark::book).toList();
+        bookDTOs = objectMapper.writeValueAsBytes(books.stream().map(book -> new BookDTO(book.getTitle(), book.getAuthor(), book.getPrice())).toList());
+        final var payload = objectMapper.writeValueAsBytes(books);
+        System.out.printf("%n%s: %d books = %d bytes, %d bytes gzipped%n", format, BOOKS, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serializeBooks() throws Exception {
+        return objectMapper.writeValueAsBytes(books);
+    }
+
+    @Benchmark
+    public byte[] serializeBooksGzipped() throws Exception {
+        return gzip(objectMapper.writeValueAsBytes(books));
+    }
+
+    @Benchmark
+    public List<BookDTO> deserializeBookDTOs() throws Exception {
+        return objectMapper.readValue(bookDTOs, BOOK_DTOS);
+    }
+
+    private static byte[] gzip(final byte[] payload) throws IOException {
+        final var bytes = new ByteArrayOutputStream(payload.length / 4);
+        try (final var gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(payload);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Book book(final long id) {
+        final var book = new Book();
+        book.setId(id);
+        book.setTitle("Refactoring Code " + id);
+        book.setAuthor("Martin Fowler");
+        book.setPrice(new BigDecimal("50.00"));
+        book.setVersion(0L);
+        book.setLastModified(Instant.now());
+        return book;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.Bookstore.jmh;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import com.example.Bookstore.search.BookSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GET /api/v1/books/fulltext against the in-memory index: a token in every title, one in 1 of 50 titles, and one in a
+// single title, alone and combined. Heap after the build is printed once, as the index's footprint for the catalogue
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"dragon", "river", "empire", "garden", "winter", "shadow", "harbor", "falcon",
+            "crystal", "meadow"};
+
+    @Param({"1000000"})
+    private int books;
+
+    private BookSearchIndex bookSearchIndex;
+
+    @Setup
+    public void setUp() {
+        final var runtime = Runtime.getRuntime();
+        System.gc();
+        final var before = runtime.totalMemory() - runtime.freeMemory();
+        bookSearchIndex = new BookSearchIndex();
+        for (var id = 1L; id <= books; id++) {
+            final var book = new Book();
+            book.setId(id);
+            book.setTitle("The " + WORDS[(int) (id % WORDS.length)] + " saga " + (id % 50 == 0 ? "volume" : "part") + " " + id);
+            book.setAuthor("Author " + id % 1000);
+            book.setPrice(new BigDecimal("19.99"));
+            bookSearchIndex.index(book);
+        }
+        System.gc();
+        System.out.printf("%n%,d books indexed, %,d MB heap%n", books, (runtime.totalMemory() - runtime.freeMemory() - before) >> 20);
+    }
+
+    @Benchmark
+    public List<BookSearchHitDTO> commonToken() {
+        return bookSearchIndex.search("saga", 20);
+    }
+
+    @Benchmark
+    public List<BookSearchHitDTO> commonAndFrequentTokens() {
+        return bookSearchIndex.search("the dragon saga volume", 20);
+    }
+
+    @Benchmark
+    public List<BookSearchHitDTO> commonAndRareTokens() {
+        return bookSearchIndex.search("the saga 123456", 20);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.Bookstore.jmh;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.ApiErrorDTO;
+import com.example.Bookstore.payload.BookDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// Jackson cost of the payloads the REST API writes and reads most often
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private Book book;
+    private List<Book> page;
+    private ApiErrorDTO apiError;
+    private byte[] bookDTOJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same defaults as the ObjectMapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        book = book(1L);
+        page = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(BookSerializationBenchmark::book).toList();
+        apiError = new ApiErrorDTO(LocalDateTime.now(), 400, "Bad Request", "Validation failed", "/api/v1/books",
+                List.of("title: size must be between 10 and 30", "author: must not be blank"));
+        bookDTOJson = "{\"title\":\"Refactoring Code\",\"author\":\"Martin Fowler\",\"price\":50.00}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeBook() throws Exception {
+        return objectMapper.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] serializeBookPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeApiError() throws Exception {
+        return objectMapper.writeValueAsBytes(apiError);
+    }
+
+    @Benchmark
+    public BookDTO deserializeBookDTO() throws Exception {
+        return objectMapper.readValue(bookDTOJson, BookDTO.class);
+    }
+
+    private static Book book(final long id) {
+        final var book = new Book();
+        book.setId(id);
+        book.setTitle("Refactoring Code " + id);
+        book.setAuthor("Martin Fowler");
+        book.setPrice(new BigDecimal("50.00"));
+        book.setVersion(0L);
+        book.setLastModified(Instant.now());
+        return book;
+    }
+}
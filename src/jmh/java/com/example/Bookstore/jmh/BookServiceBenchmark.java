@@ -0,0 +1,102 @@
+package com.example.Bookstore.jmh;
+
+import com.example.Bookstore.BookstoreApplication;
+import com.example.Bookstore.config.CacheConfig;
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// BookService hot paths through the real Spring proxies (transactions, cache, search index) against embedded H2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BookServiceBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private Cache booksCache;
+    private List<BookDTO> batch;
+    private Long bookId;
+    private long updates;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BookstoreApplication.class)
+                .properties("server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.com.example=WARN",
+                        "logging.file.name=target/jmh-app.log")
+                .run();
+        bookService = context.getBean(BookService.class);
+        booksCache = context.getBean(CacheManager.class).getCache(CacheConfig.BOOKS_CACHE);
+        batch = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new BookDTO("JMH Title " + i, "JMH Author " + i, new BigDecimal("19.99")))
+                .toList();
+    }
+
+    // Every iteration starts from a small catalogue, so insert cost does not drift with table and index size
+    @Setup(Level.Iteration)
+    public void resetCatalogue() {
+        bookService.purgeBooks();
+        bookId = bookService.addBook(new BookDTO("Refactoring Code", "Martin Fowler", new BigDecimal("50.00"))).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Book addBook() {
+        return bookService.addBook(new BookDTO("Clean Code Book", "Robert Martin", new BigDecimal("40.00")));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Book> addBooks() {
+        return bookService.addBooks(batch);
+    }
+
+    // Served by the books cache after the first call, which is what repeated GET /books/{id} sees
+    @Benchmark
+    public Book getBookById() {
+        return bookService.getBookById(bookId);
+    }
+
+    // Evicted before every read, so each call goes through the repository to H2 like the first GET /books/{id} of a book
+    @Benchmark
+    public Book getBookByIdCacheMiss() {
+        booksCache.evict(bookId);
+        return bookService.getBookById(bookId);
+    }
+
+    @Benchmark
+    public Book updateBook() {
+        final var price = BigDecimal.valueOf(updates++ % 100, 1);
+        return bookService.updateBook(bookId, new BookDTO("Refactoring Code", "Martin Fowler", price));
+    }
+}
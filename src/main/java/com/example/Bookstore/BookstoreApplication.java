@@ -3,7 +3,8 @@ package com.example.Bookstore;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+// R2DBC is only on the classpath with -Preactive; a ConnectionFactory would make the JDBC DataSource, and so JPA, back off
+@SpringBootApplication(excludeName = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration")
 public class BookstoreApplication {
 
 	public static void main(final String[] args) {
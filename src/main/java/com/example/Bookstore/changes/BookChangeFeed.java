@@ -0,0 +1,255 @@
+package com.example.Bookstore.changes;
+
+import com.example.Bookstore.config.BookChangeFeedConfig;
+import com.example.Bookstore.model.BookChangeEvent;
+import com.example.Bookstore.payload.BookChangeDTO;
+import com.example.Bookstore.repository.BookChangeEventRepository;
+import com.example.Bookstore.service.BookCatalogVersion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Change feed over the book_change_event outbox. Each poll the relay numbers newly committed events, then tails the
+// numbered ones into a shared ring buffer; subscribers are drained from that buffer, so the database sees one poll per
+// interval however many clients listen. Only a subscriber resuming from before the buffer reads the outbox itself.
+// Every instance runs a relay: the unique sequence column decides which one numbers an event, and all of them tail.
+@Component
+@Slf4j
+public class BookChangeFeed {
+
+    // Bulkhead capping concurrent subscribers; a full bulkhead answers 429 like the request bulkheads
+    public static final String SUBSCRIBERS = "books-changes";
+
+    private static final MediaType UTF8_TEXT = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    private static final String SSE_HEARTBEAT = ":\n\n";
+    private static final String NDJSON_HEARTBEAT = "\n";
+
+    @Autowired
+    private BookChangeEventRepository bookChangeEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private BookCatalogVersion bookCatalogVersion;
+
+    @Autowired
+    @Qualifier(BookChangeFeedConfig.BOOK_CHANGES_EXECUTOR)
+    private TaskExecutor bookChangesExecutor;
+
+    @Value("${bookstore.books.changes.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${bookstore.books.changes.batch-size:500}")
+    private int batchSize;
+
+    @Value("${bookstore.books.changes.subscription-timeout:30m}")
+    private Duration subscriptionTimeout;
+
+    @Value("${bookstore.books.changes.retention:7d}")
+    private Duration retention;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private BookChangeRingBuffer ringBuffer;
+
+    // Starts from the newest published sequence with the tail of the outbox preloaded, so clients reconnecting after
+    // a restart resume from memory
+    @PostConstruct
+    void init() {
+        final var head = bookChangeEventRepository.findMaxSequence();
+        ringBuffer = new BookChangeRingBuffer(bufferSize, head != null ? head : 0L);
+        if (head != null) {
+            final var events = bookChangeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(Math.max(head - bufferSize, 0L), Limit.of(bufferSize));
+            events.forEach(event -> ringBuffer.append(encode(event)));
+            advanceCatalogVersion(events);
+        }
+    }
+
+    // Synchronized because the ring buffer has a single writer
+    @Scheduled(fixedDelayString = "${bookstore.books.changes.poll-interval-ms:100}")
+    public synchronized void relay() {
+        try {
+            int numbered;
+            do {
+                numbered = transactionTemplate.execute(status -> numberBatch());
+            } while (numbered == batchSize);
+        } catch (final DataIntegrityViolationException e) {
+            log.debug("Another relay numbered the same change events; tailing its sequences instead");
+        }
+        List<BookChangeEvent> events;
+        do {
+            events = bookChangeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(ringBuffer.head(), Limit.of(batchSize));
+            events.forEach(event -> ringBuffer.append(encode(event)));
+            if (!events.isEmpty()) {
+                advanceCatalogVersion(events);
+                subscribers.forEach(this::drain);
+            }
+        } while (events.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.books.changes.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> {
+            subscriber.heartbeatDue = true;
+            drain(subscriber);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${bookstore.books.changes.cleanup-interval-ms:3600000}",
+            fixedDelayString = "${bookstore.books.changes.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        final var deleted = transactionTemplate.execute(status -> bookChangeEventRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        log.debug("Deleted {} change events older than {}", deleted, retention);
+    }
+
+    // Streams changes after the given sequence (the newest one when null) as SSE or NDJSON. Sequences have no gaps,
+    // so a client resuming past the retention window sees the jump and knows to resync
+    public ResponseBodyEmitter subscribe(final Long after, final MediaType format) {
+        final var bulkhead = bulkheadRegistry.bulkhead(SUBSCRIBERS);
+        if (!bulkhead.tryAcquirePermission()) {
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+        final var emitter = new ResponseBodyEmitter(subscriptionTimeout.toMillis());
+        final var subscriber = new Subscriber(emitter, MediaType.TEXT_EVENT_STREAM.equals(format), after != null ? after : ringBuffer.head());
+        final Runnable release = () -> {
+            if (subscribers.remove(subscriber)) {
+                bulkhead.onComplete();
+            }
+        };
+        emitter.onCompletion(release);
+        emitter.onTimeout(release);
+        emitter.onError(error -> release.run());
+        subscribers.add(subscriber);
+        drain(subscriber);
+        return emitter;
+    }
+
+    // Numbers committed, unnumbered events in id order after the highest sequence so far; the dirty rows flush as one
+    // batched update on commit. A relay racing on the same rows fails the unique constraint and rolls back
+    private int numberBatch() {
+        final var events = bookChangeEventRepository.findBySequenceIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (!events.isEmpty()) {
+            final var max = bookChangeEventRepository.findMaxSequence();
+            var sequence = max != null ? max : 0L;
+            for (final var event : events) {
+                event.setSequence(++sequence);
+            }
+        }
+        return events.size();
+    }
+
+    // The catalogue ETag follows the outbox, so it moves for writes committed by any instance
+    private void advanceCatalogVersion(final List<BookChangeEvent> events) {
+        if (!events.isEmpty()) {
+            final var newest = events.getLast();
+            bookCatalogVersion.advance(newest.getSequence(), newest.getOccurredAt());
+        }
+    }
+
+    private EncodedBookChange encode(final BookChangeEvent event) {
+        final var change = new BookChangeDTO(event.getSequence(), event.getType(), event.getBookId(), event.getOccurredAt());
+        try {
+            final var json = objectMapper.writeValueAsString(change);
+            return new EncodedBookChange(change.sequence(),
+                    "id:" + change.sequence() + "\nevent:" + change.type() + "\ndata:" + json + "\n\n",
+                    json + "\n");
+        } catch (final JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // At most one delivery task per subscriber; appends that arrive while it runs are picked up by the same task
+    private void drain(final Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            bookChangesExecutor.execute(subscriber::drain);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final ResponseBodyEmitter emitter;
+        private final boolean sse;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private long cursor;
+
+        private Subscriber(final ResponseBodyEmitter emitter, final boolean sse, final long cursor) {
+            this.emitter = emitter;
+            this.sse = sse;
+            this.cursor = cursor;
+        }
+
+        private void drain() {
+            try {
+                do {
+                    while (cursor < ringBuffer.head()) {
+                        final var changes = nextChanges();
+                        if (changes.isEmpty()) {
+                            // Everything up to the head has aged out of the outbox
+                            cursor = ringBuffer.head();
+                            break;
+                        }
+                        // One write and flush per batch rather than per event
+                        final var frames = new StringBuilder();
+                        changes.forEach(change -> frames.append(sse ? change.sse() : change.ndjson()));
+                        emitter.send(frames.toString(), UTF8_TEXT);
+                        cursor = changes.getLast().sequence();
+                        heartbeatDue = false;
+                    }
+                    if (heartbeatDue) {
+                        heartbeatDue = false;
+                        emitter.send(sse ? SSE_HEARTBEAT : NDJSON_HEARTBEAT, UTF8_TEXT);
+                    }
+                    draining.set(false);
+                    // Re-check after releasing: an append between the last read and the release found draining set
+                } while (cursor < ringBuffer.head() && draining.compareAndSet(false, true));
+            } catch (final IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed; the completion callback releases the permit
+                draining.set(false);
+                emitter.completeWithError(e);
+            }
+        }
+
+        private List<EncodedBookChange> nextChanges() {
+            final var buffered = ringBuffer.readAfter(cursor, batchSize);
+            if (buffered != null) {
+                return buffered;
+            }
+            return bookChangeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(cursor, Limit.of(batchSize))
+                    .stream()
+                    .map(BookChangeFeed.this::encode)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.Bookstore.changes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Last `capacity` published changes, shared by every subscriber. One writer (the relay) appends events with
+// consecutive sequences; readers copy what they need without locking and detect slots overwritten under them
+final class BookChangeRingBuffer {
+
+    private final AtomicReferenceArray<EncodedBookChange> slots;
+    private final int capacity;
+    // Sequence of the newest event; written after its slot, so a reader that sees it also sees the slot
+    private volatile long head;
+
+    BookChangeRingBuffer(final int capacity, final long head) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.head = head;
+    }
+
+    void append(final EncodedBookChange change) {
+        slots.set(index(change.sequence()), change);
+        head = change.sequence();
+    }
+
+    long head() {
+        return head;
+    }
+
+    // Up to max events after the given sequence, or null when some of them have already been overwritten
+    List<EncodedBookChange> readAfter(final long sequence, final int max) {
+        final var last = Math.min(head, sequence + max);
+        if (last - sequence > capacity) {
+            return null;
+        }
+        final var changes = new ArrayList<EncodedBookChange>((int) Math.max(last - sequence, 0));
+        for (var next = sequence + 1; next <= last; next++) {
+            final var change = slots.get(index(next));
+            if (change == null || change.sequence() != next) {
+                return null;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private int index(final long sequence) {
+        return (int) Math.floorMod(sequence, (long) capacity);
+    }
+}
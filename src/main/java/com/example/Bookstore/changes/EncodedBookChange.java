@@ -0,0 +1,6 @@
+package com.example.Bookstore.changes;
+
+// A published change already framed for both stream formats, so fan-out copies strings instead of encoding JSON
+// once per subscriber
+record EncodedBookChange(long sequence, String sse, String ndjson) {
+}
@@ -0,0 +1,20 @@
+package com.example.Bookstore.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class BookChangeFeedConfig {
+
+    public static final String BOOK_CHANGES_EXECUTOR = "bookChangesExecutor";
+
+    // Delivers change batches to subscribers. A client that reads slowly only parks its own virtual thread, never the
+    // relay or the other subscribers, and idle subscribers hold no thread at all
+    @Bean(BOOK_CHANGES_EXECUTOR)
+    public SimpleAsyncTaskExecutor bookChangesExecutor() {
+        final var executor = new SimpleAsyncTaskExecutor("book-changes-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
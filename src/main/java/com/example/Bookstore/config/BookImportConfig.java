@@ -0,0 +1,27 @@
+package com.example.Bookstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BookImportConfig {
+
+    public static final String BOOK_IMPORT_EXECUTOR = "bookImportExecutor";
+
+    // Fixed number of import workers behind a bounded queue; a full queue rejects new jobs instead of piling them up
+    @Bean(BOOK_IMPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor bookImportExecutor(@Value("${bookstore.books.import.threads:2}") final int threads,
+                                                     @Value("${bookstore.books.import.queue-capacity:20}") final int queueCapacity) {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("book-import-");
+        // Let a running import finish its current chunk on shutdown rather than cutting it off mid-transaction
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.Bookstore.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Cache sizing, TTL and statistics come from spring.cache.caffeine.spec in application.properties
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String BOOKS_CACHE = "books";
+
+    // The Caffeine manager Spring Boot would build, made transaction-aware: @CachePut and @CacheEvict inside a
+    // transaction apply after it commits, so a rollback leaves no phantom entry and a read between the write and its
+    // commit cannot leave the old row cached. Outside a transaction they apply immediately, as before
+    @Bean
+    public CacheManager cacheManager(final CacheProperties cacheProperties) {
+        final var caffeineCacheManager = new CaffeineCacheManager();
+        if (cacheProperties.getCaffeine().getSpec() != null) {
+            caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
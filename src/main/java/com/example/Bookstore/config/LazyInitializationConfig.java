@@ -0,0 +1,20 @@
+package com.example.Bookstore.config;
+
+import com.example.Bookstore.changes.BookChangeFeed;
+import com.example.Bookstore.health.RecommendationServiceHealthChecker;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    // Beans that stay eager under spring.main.lazy-initialization (prod): the health checker and the change feed relay
+    // only start their schedules once created, and a bad datasource should fail the boot rather than the first request
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(RecommendationServiceHealthChecker.class, BookChangeFeed.class, DataSource.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.Bookstore.config;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.ApiErrorDTO;
+import com.example.Bookstore.payload.BookBatchOperationDTO;
+import com.example.Bookstore.payload.BookBatchResultDTO;
+import com.example.Bookstore.payload.BookChangeDTO;
+import com.example.Bookstore.payload.BookCreateSummaryDTO;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookDeleteSummaryDTO;
+import com.example.Bookstore.payload.BookImportErrorDTO;
+import com.example.Bookstore.payload.BookImportJobDTO;
+import com.example.Bookstore.payload.BookPageDTO;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.BookstoreRuntimeHints.class)
+public class NativeHintsConfig {
+
+    // Hints AOT processing cannot infer on its own. Entities and repository proxies are covered by Spring Data and the
+    // JPA managed types processor, but handlers return ResponseEntity<?>, so the JSON payload types are invisible to it
+    static class BookstoreRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+            // Records and the Lombok-generated accessors of Book, plus the types reachable from them
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    Book.class, BookDTO.class, ApiErrorDTO.class, BookPageDTO.class, BookSearchHitDTO.class,
+                    BookCreateSummaryDTO.class, BookDeleteSummaryDTO.class, BookImportJobDTO.class, BookImportErrorDTO.class,
+                    BookBatchOperationDTO.class, BookBatchResultDTO.class, BookChangeDTO.class);
+            // Loaded by name from the l2cache and prod profiles
+            hints.resources().registerPattern("hibernate-jcache.conf");
+            hints.resources().registerPattern("db/postgresql/*.sql");
+        }
+    }
+}
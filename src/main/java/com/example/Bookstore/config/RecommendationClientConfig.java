@@ -0,0 +1,24 @@
+package com.example.Bookstore.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class RecommendationClientConfig {
+
+    // One shared JDK HttpClient keeps connections alive between probes; both timeouts are strict
+    @Bean
+    public RestClient recommendationRestClient(final RestClient.Builder restClientBuilder,
+                                               @Value("${bookstore.recommendation.connect-timeout:1s}") final Duration connectTimeout,
+                                               @Value("${bookstore.recommendation.read-timeout:2s}") final Duration readTimeout) {
+        final var requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(readTimeout);
+        return restClientBuilder.requestFactory(requestFactory).build();
+    }
+}
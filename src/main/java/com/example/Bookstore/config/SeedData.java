@@ -5,12 +5,15 @@ import com.example.Bookstore.service.BookService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.List;
 
+// Sample books for local runs; production starts against the real catalogue and skips the extra writes
 @Component
+@Profile("!prod")
 @Slf4j
 public class SeedData implements CommandLineRunner {
 
@@ -22,6 +25,6 @@ public class SeedData implements CommandLineRunner {
         final var bookDTO1 = new BookDTO("Harry Potter", "J.K. Rowling", new BigDecimal("599.99"));
         final var bookDTO2 = new BookDTO("Pirates of the Caribbean", "Jonny Depp", new BigDecimal("299.99"));
         final var books = bookService.addBooks(List.of(bookDTO1, bookDTO2));
-        log.info("Books added: {}", books);
+        log.info("Seeded {} books", books.size());
     }
 }
@@ -0,0 +1,22 @@
+package com.example.Bookstore.config;
+
+import com.example.Bookstore.throttling.BookRequestThrottlingInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class ThrottlingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private BookRequestThrottlingInterceptor bookRequestThrottlingInterceptor;
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        // The change stream holds its connection for minutes without touching the pool; BookChangeFeed caps it with
+        // its own subscriber bulkhead instead of a per-request permit
+        registry.addInterceptor(bookRequestThrottlingInterceptor).addPathPatterns("/api/v1/books", "/api/v1/books/**")
+                .excludePathPatterns("/api/v1/books/changes");
+    }
+}
@@ -1,26 +1,48 @@
 package com.example.Bookstore.controller;
 
+import com.example.Bookstore.changes.BookChangeFeed;
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookBatchOperationDTO;
 import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookDeleteSummaryDTO;
+import com.example.Bookstore.service.BookCatalogVersion;
 import com.example.Bookstore.service.BookService;
+import com.example.Bookstore.service.BulkValidationMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.util.List;
 
+import static com.example.Bookstore.config.PayloadFormatConfig.CBOR_VALUE;
+import static com.example.Bookstore.config.PayloadFormatConfig.SMILE_VALUE;
+
 @RestController
 @RequestMapping("/api/v1")
 @Tag(name = "Book Controller", description = "Controller for book management")
@@ -29,46 +51,144 @@ public class BookController {
     @Autowired
     private BookService bookService;
 
-    @GetMapping(value = "/books", produces = "application/json")
+    @Autowired
+    private BookCatalogVersion bookCatalogVersion;
+
+    @Autowired
+    private BookChangeFeed bookChangeFeed;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborHttpMessageConverter;
+
+    @GetMapping(value = "/books", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ApiResponse(responseCode = "200", description = "Fetched List of Books")
+    @ApiResponse(responseCode = "304", description = "List of Books not modified")
     @ApiResponse(responseCode = "404", description = "List of Books not found")
     @ApiResponse(responseCode = "400", description = "List of Books Error")
     @ApiResponse(responseCode = "500", description = "List of Books Internal Server Error")
-    @Operation(summary = "Get List of Books")
-    public ResponseEntity<?> getBooks() {
+    @Operation(summary = "Get List of Books", description = "Pass cursor and/or size to page through the catalogue by id instead of fetching it whole")
+    public ResponseEntity<?> getBooks(@RequestParam(required = false) final String cursor, @RequestParam(required = false) final Integer size,
+                                      final WebRequest request) {
+        if (isCatalogNotModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (cursor != null || size != null) {
+            return ResponseEntity.ok(bookService.getBooksPage(cursor, size));
+        }
         final var books = bookService.getBooks();
         return !books.isEmpty()
                 ? ResponseEntity.ok(books)
                 : ResponseEntity.notFound().build();
     }
 
-    @GetMapping(value = "/books/{id}", produces = "application/json")
+    @GetMapping(value = "/books/search", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Searched Page of Books")
+    @ApiResponse(responseCode = "304", description = "Searched Page of Books not modified")
+    @ApiResponse(responseCode = "400", description = "Searched Page of Books Error")
+    @ApiResponse(responseCode = "500", description = "Searched Page of Books Internal Server Error")
+    @Operation(summary = "Search Books", description = "Case-insensitive prefix match on title and author with an optional price range, paged by cursor")
+    public ResponseEntity<?> searchBooks(@RequestParam(required = false) final String title,
+                                         @RequestParam(required = false) final String author,
+                                         @RequestParam(required = false) final BigDecimal minPrice,
+                                         @RequestParam(required = false) final BigDecimal maxPrice,
+                                         @RequestParam(required = false) final String cursor,
+                                         @RequestParam(required = false) final Integer size,
+                                         final WebRequest request) {
+        if (isCatalogNotModified(request)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(bookService.searchBooks(title, author, minPrice, maxPrice, cursor, size));
+    }
+
+    @GetMapping(value = "/books/fulltext", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Ranked List of Books")
+    @ApiResponse(responseCode = "500", description = "Ranked List of Books Internal Server Error")
+    @Operation(summary = "Full-Text Search Books", description = "Tokenised search across title and author, ranked by relevance and served from memory")
+    public ResponseEntity<?> searchFullText(@RequestParam final String q, @RequestParam(required = false) final Integer limit) {
+        return ResponseEntity.ok(bookService.searchFullText(q, limit));
+    }
+
+    @GetMapping(value = "/books/export", produces = "application/x-ndjson")
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Streamed Catalogue of Books")
+    @ApiResponse(responseCode = "500", description = "Streamed Catalogue of Books Internal Server Error")
+    @Operation(summary = "Export Catalogue of Books", description = "Streams every book as newline-delimited JSON, ordered by id")
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(bookService::exportBooks);
+    }
+
+    @GetMapping(value = "/books/changes", produces = "text/event-stream")
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Streamed Changes of Books")
+    @ApiResponse(responseCode = "429", description = "Streamed Changes of Books subscriber limit reached")
+    @ApiResponse(responseCode = "500", description = "Streamed Changes of Books Internal Server Error")
+    @Operation(summary = "Stream Changes of Books",
+            description = "Server-Sent Events for every create, update and delete, in commit order. Resume with Last-Event-ID or after; without either the stream starts at the next change")
+    public ResponseEntity<ResponseBodyEmitter> streamChanges(@RequestParam(required = false) final Long after,
+                                                             @RequestHeader(value = "Last-Event-ID", required = false) final Long lastEventId) {
+        return changeStream(lastEventId != null ? lastEventId : after, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    @GetMapping(value = "/books/changes", produces = "application/x-ndjson")
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Streamed Changes of Books")
+    @ApiResponse(responseCode = "429", description = "Streamed Changes of Books subscriber limit reached")
+    @ApiResponse(responseCode = "500", description = "Streamed Changes of Books Internal Server Error")
+    @Operation(summary = "Stream Changes of Books as NDJSON", description = "Same feed as the Server-Sent Events stream, one JSON change per line; resume with after")
+    public ResponseEntity<ResponseBodyEmitter> streamChangesNdjson(@RequestParam(required = false) final Long after) {
+        return changeStream(after, MediaType.APPLICATION_NDJSON);
+    }
+
+    @GetMapping(value = "/books/{id}", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ApiResponse(responseCode = "200", description = "Fetched Single Book")
+    @ApiResponse(responseCode = "304", description = "Single Book not modified")
     @ApiResponse(responseCode = "404", description = "Single Book not found")
     @ApiResponse(responseCode = "400", description = "Single Book Error")
     @ApiResponse(responseCode = "500", description = "Single Book Internal Server Error")
     @Operation(summary = "Get Single Book")
     public ResponseEntity<?> getBookById(@PathVariable final Long id) {
-        return ResponseEntity.ok(bookService.getBookById(id));
+        // ETag and Last-Modified on the entity let Spring answer If-None-Match/If-Modified-Since with a bodiless 304
+        final var book = bookService.getBookById(id);
+        final var response = ResponseEntity.ok().eTag(etag(book));
+        if (book.getLastModified() != null) {
+            response.lastModified(book.getLastModified());
+        }
+        return response.body(book);
     }
 
-    @DeleteMapping(value = "/books", produces = "application/json")
+    @DeleteMapping(value = "/books", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ApiResponse(responseCode = "200", description = "Deleted List of Books")
     @ApiResponse(responseCode = "404", description = "Deleted List of Books not found")
     @ApiResponse(responseCode = "400", description = "Deleted List of Books Error")
     @ApiResponse(responseCode = "500", description = "Deleted List of Books Internal Server Error")
-    @Operation(summary = "Delete List of Books")
-    public ResponseEntity<?> deleteBooks() {
+    @Operation(summary = "Delete List of Books", description = "With bulk=true the catalogue is purged set-based and only the deleted count is returned")
+    public ResponseEntity<?> deleteBooks(@RequestParam(defaultValue = "false") final boolean bulk) {
+        if (bulk) {
+            final var deleted = bookService.purgeBooks();
+            return deleted > 0
+                    ? ResponseEntity.ok(new BookDeleteSummaryDTO(deleted))
+                    : ResponseEntity.notFound().build();
+        }
         final var books = bookService.deleteBooks();
         return !books.isEmpty()
                 ? ResponseEntity.ok(books)
                 : ResponseEntity.notFound().build();
     }
 
-    @DeleteMapping(value = "/books/{id}", produces = "application/json")
+    @DeleteMapping(value = "/books/{id}", produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ApiResponse(responseCode = "200", description = "Deleted Single Book")
     @ApiResponse(responseCode = "404", description = "Deleted Single Book not found")
@@ -79,7 +199,7 @@ public class BookController {
         return ResponseEntity.ok(bookService.deleteBookById(id));
     }
 
-    @PostMapping(value = "/books", consumes = "application/json", produces = "application/json")
+    @PostMapping(value = "/books", consumes = {"application/json", SMILE_VALUE, CBOR_VALUE}, produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.CREATED)
     @ApiResponse(responseCode = "201", description = "Created Book")
     @ApiResponse(responseCode = "404", description = "Created Book not found")
@@ -91,7 +211,7 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(bookService.addBook(bookDTO));
     }
 
-    @PostMapping(value = "/books/all", consumes = "application/json", produces = "application/json")
+    @PostMapping(value = "/books/all", consumes = {"application/json", SMILE_VALUE, CBOR_VALUE}, produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.CREATED)
     @ApiResponse(responseCode = "201", description = "Created List of Books")
     @ApiResponse(responseCode = "404", description = "Created List of Books not found")
@@ -103,7 +223,32 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(bookService.addBooks(booksDTO));
     }
 
-    @PutMapping(value = "/books/{id}", consumes = "application/json", produces = "application/json")
+    @PostMapping(value = "/books/all/stream", consumes = {"application/json", SMILE_VALUE, CBOR_VALUE}, produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiResponse(responseCode = "201", description = "Created List of Books")
+    @ApiResponse(responseCode = "400", description = "Created List of Books Error")
+    @ApiResponse(responseCode = "403", description = "Created List of Books Invalid")
+    @ApiResponse(responseCode = "500", description = "Created List of Books Internal Server Error")
+    @Operation(summary = "Create List of Books from a streamed JSON, Smile or CBOR array",
+            description = "Validates each book as it is parsed. FAIL_FAST stops and rolls back at the first invalid book; COLLECT keeps valid books and reports every rejected index")
+    public ResponseEntity<?> addBooksStream(@RequestParam(defaultValue = "FAIL_FAST") final BulkValidationMode mode,
+                                            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType, final InputStream body) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookService.addBooks(body, mode, streamReader(MediaType.parseMediaType(contentType))));
+    }
+
+    @PostMapping(value = "/books/batch", consumes = {"application/json", SMILE_VALUE, CBOR_VALUE}, produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Applied Batch of Book Operations")
+    @ApiResponse(responseCode = "400", description = "Applied Batch of Book Operations Error")
+    @ApiResponse(responseCode = "500", description = "Applied Batch of Book Operations Internal Server Error")
+    @Operation(summary = "Apply Batch of Book Operations",
+            description = "Runs a mixed list of CREATE, UPDATE and DELETE operations grouped by type (creates, then updates, then deletes) in chunked transactions. "
+                    + "Each operation gets its own result with the status the single-book endpoint would have returned")
+    public ResponseEntity<?> executeBatch(@RequestBody final List<BookBatchOperationDTO> operations) {
+        return ResponseEntity.ok(bookService.executeBatch(operations));
+    }
+
+    @PutMapping(value = "/books/{id}", consumes = {"application/json", SMILE_VALUE, CBOR_VALUE}, produces = {"application/json", SMILE_VALUE, CBOR_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ApiResponse(responseCode = "200", description = "Updated Book")
     @ApiResponse(responseCode = "404", description = "Updated Book not found")
@@ -114,4 +259,30 @@ public class BookController {
     public ResponseEntity<?> updateBook(@PathVariable final Long id, @Valid @RequestBody final BookDTO bookDTO) {
         return ResponseEntity.ok(bookService.updateBook(id, bookDTO));
     }
+
+    private ResponseEntity<ResponseBodyEmitter> changeStream(final Long after, final MediaType format) {
+        return ResponseEntity.ok()
+                .contentType(format)
+                .body(bookChangeFeed.subscribe(after, format));
+    }
+
+    // The streamed create parses the body itself rather than through a message converter, so it borrows the mapper of
+    // the converter matching the request format
+    private ObjectMapper streamReader(final MediaType contentType) {
+        for (final AbstractJackson2HttpMessageConverter converter : List.of(smileHttpMessageConverter, cborHttpMessageConverter)) {
+            if (converter.getSupportedMediaTypes().stream().anyMatch(type -> type.includes(contentType))) {
+                return converter.getObjectMapper();
+            }
+        }
+        return objectMapper;
+    }
+
+    // Checked before any query runs, so an unchanged catalogue is answered without touching the database
+    private boolean isCatalogNotModified(final WebRequest request) {
+        return request.checkNotModified(bookCatalogVersion.etag(), bookCatalogVersion.lastModified().toEpochMilli());
+    }
+
+    private static String etag(final Book book) {
+        return "\"" + book.getId() + "-" + (book.getVersion() != null ? book.getVersion() : 0L) + "\"";
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.Bookstore.controller;
+
+import com.example.Bookstore.imports.BookImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Book Import Controller", description = "Controller for asynchronous bulk book imports")
+public class BookImportController {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @PostMapping(value = "/books/imports", consumes = "multipart/form-data", produces = "application/json")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @ApiResponse(responseCode = "202", description = "Book Import queued")
+    @ApiResponse(responseCode = "400", description = "Book Import Error")
+    @ApiResponse(responseCode = "503", description = "Book Import queue full")
+    @ApiResponse(responseCode = "500", description = "Book Import Internal Server Error")
+    @Operation(summary = "Import Books from a file", description = "Upload a CSV (title,author,price header) or NDJSON file; returns a job id to poll")
+    public ResponseEntity<?> importBooks(@RequestParam("file") final MultipartFile file) throws IOException {
+        final var job = bookImportService.submit(file);
+        final var location = ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{jobId}").buildAndExpand(job.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(job.toDTO());
+    }
+
+    @GetMapping(value = "/books/imports/{jobId}", produces = "application/json")
+    @ResponseStatus(HttpStatus.OK)
+    @ApiResponse(responseCode = "200", description = "Fetched Book Import status")
+    @ApiResponse(responseCode = "404", description = "Book Import not found")
+    @ApiResponse(responseCode = "500", description = "Book Import Internal Server Error")
+    @Operation(summary = "Get Book Import status", description = "Status, progress counters and the first per-row errors of an import job")
+    public ResponseEntity<?> getImport(@PathVariable final String jobId) {
+        return ResponseEntity.ok(bookImportService.getJob(jobId).toDTO());
+    }
+}
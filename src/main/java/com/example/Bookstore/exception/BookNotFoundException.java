@@ -1,7 +1,19 @@
 package com.example.Bookstore.exception;
 
-public class BookNotFoundException extends RuntimeException {
+import lombok.Getter;
+
+@Getter
+public class BookNotFoundException extends StacklessDomainException {
+
+    private final Long id;
+
     public BookNotFoundException(final Long id) {
-        super("Book not found with id: " + id);
+        super(null);
+        this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Book not found with id: " + id;
     }
 }
@@ -0,0 +1,16 @@
+package com.example.Bookstore.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BookValidationException extends StacklessDomainException {
+
+    private final List<String> validationErrors;
+
+    public BookValidationException(final String message, final List<String> validationErrors) {
+        super(message);
+        this.validationErrors = validationErrors;
+    }
+}
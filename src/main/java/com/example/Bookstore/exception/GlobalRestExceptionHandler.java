@@ -1,14 +1,23 @@
 package com.example.Bookstore.exception;
 
+import com.example.Bookstore.logging.SampledEventTurboFilter;
 import com.example.Bookstore.payload.ApiErrorDTO;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
@@ -18,19 +27,95 @@ import java.time.LocalDateTime;
 @Slf4j
 public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
 
-    // Handle Book Not Found Exception
+    // bookstore.book.errors{type}: client errors worth alerting on, independent of the http.server.requests status tag
+    private static final String ERRORS_METER = "bookstore.book.errors";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Registered once; looking a counter up by name and tags on every error allocates its id again
+    private Counter notFoundErrors;
+    private Counter conflictErrors;
+    private Counter validationErrors;
+
+    @PostConstruct
+    void registerMeters() {
+        notFoundErrors = meterRegistry.counter(ERRORS_METER, "type", "not_found");
+        conflictErrors = meterRegistry.counter(ERRORS_METER, "type", "conflict");
+        validationErrors = meterRegistry.counter(ERRORS_METER, "type", "validation");
+    }
+
+    // Handle Book Not Found Exception. The exception is stackless and builds its message only here, so a 404 costs the
+    // error body and nothing else
     @ExceptionHandler(BookNotFoundException.class)
     public ResponseEntity<?> handleBookNotFound(final BookNotFoundException ex, final WebRequest request) {
+        notFoundErrors.increment();
+        final var apiError = new ApiErrorDTO(
+                LocalDateTime.now(),
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                path(request),
+                null
+        );
+        log.debug(SampledEventTurboFilter.SAMPLED, "{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiError);
+    }
+
+    // Handle malformed pagination cursors
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursor(final InvalidCursorException ex, final WebRequest request) {
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(),
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    ex.getMessage(),
+                    path(request),
+                    null
+            );
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.badRequest().body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Handle concurrent modification detected through Book.version
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(final ObjectOptimisticLockingFailureException ex, final WebRequest request) {
+        conflictErrors.increment();
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.CONFLICT.value(),
+                    HttpStatus.CONFLICT.getReasonPhrase(),
+                    "Book was modified concurrently, reload and retry",
+                    path(request),
+                    null
+            );
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Handle unknown import job ids
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<?> handleImportJobNotFound(final ImportJobNotFoundException ex, final WebRequest request) {
         try {
             final var apiError = new ApiErrorDTO(
                     LocalDateTime.now(),
                     HttpStatus.NOT_FOUND.value(),
                     HttpStatus.NOT_FOUND.getReasonPhrase(),
                     ex.getMessage(),
-                    request.getDescription(false).replace("uri=", ""),
+                    path(request),
                     null
             );
-            log.debug("Exception: {}", apiError);
+            log.debug(SampledEventTurboFilter.SAMPLED, "{} {}: {}", apiError.status(), apiError.path(), apiError.message());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiError);
         } catch (final Exception e) {
             log.debug("Exception: {}", e.getMessage());
@@ -38,11 +123,93 @@ public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
         }
     }
 
+    // Handle unsupported or empty import files
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<?> handleInvalidImport(final InvalidImportException ex, final WebRequest request) {
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(),
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    ex.getMessage(),
+                    path(request),
+                    null
+            );
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Handle a full import queue; the client should retry later
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<?> handleImportRejected(final ImportQueueFullException ex, final WebRequest request) {
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                    ex.getMessage(),
+                    path(request),
+                    null
+            );
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Handle requests shed by BookRequestThrottlingInterceptor: a client over its write rate, or a full read/write bulkhead
+    @ExceptionHandler({RequestNotPermitted.class, BulkheadFullException.class})
+    public ResponseEntity<?> handleThrottled(final RuntimeException ex, final WebRequest request) {
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.TOO_MANY_REQUESTS.value(),
+                    HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                    ex.getMessage(),
+                    path(request),
+                    null
+            );
+            log.debug(SampledEventTurboFilter.SAMPLED, "{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Handle records rejected while streaming a bulk create; validationErrors are prefixed with the array index
+    @ExceptionHandler(BookValidationException.class)
+    public ResponseEntity<?> handleBookValidation(final BookValidationException ex, final WebRequest request) {
+        validationErrors.increment();
+        try {
+            final var apiError = new ApiErrorDTO(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(),
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    ex.getMessage(),
+                    path(request),
+                    ex.getValidationErrors()
+            );
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
+            return ResponseEntity.badRequest().body(apiError);
+        } catch (final Exception e) {
+            log.debug("Exception: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // Handle validation errors (e.g., @Valid fails)
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(final MethodArgumentNotValidException ex, final HttpHeaders headers, final HttpStatusCode status, final WebRequest request) {
+        validationErrors.increment();
         try {
-            final var validationErrors = ex.getBindingResult().getFieldErrors()
+            final var fieldErrors = ex.getBindingResult().getFieldErrors()
                     .stream()
                     .map(error -> error.getField() + ": " + error.getDefaultMessage())
                     .toList();
@@ -52,10 +219,10 @@ public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
                     HttpStatus.BAD_REQUEST.value(),
                     HttpStatus.BAD_REQUEST.getReasonPhrase(),
                     "Validation failed",
-                    request.getDescription(false).replace("uri=", ""),
-                    validationErrors
+                    path(request),
+                    fieldErrors
             );
-            log.debug("Exception: {}", apiError);
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
             return ResponseEntity.badRequest().body(apiError);
         } catch (final Exception e) {
             log.debug("Exception: {}", e.getMessage());
@@ -72,14 +239,21 @@ public class GlobalRestExceptionHandler extends ResponseEntityExceptionHandler {
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
                     HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
                     ex.getMessage(),
-                    request.getDescription(false).replace("uri=", ""),
+                    path(request),
                     null
             );
-            log.debug("Exception: {}", apiError);
+            log.debug("{} {}: {}", apiError.status(), apiError.path(), apiError.message());
             return ResponseEntity.internalServerError().body(apiError);
         } catch (final Exception e) {
             log.debug("Exception: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // The request URI as getDescription(false) reports it, without building and then stripping the "uri=" description
+    private static String path(final WebRequest request) {
+        return request instanceof final ServletWebRequest servletWebRequest
+                ? servletWebRequest.getRequest().getRequestURI()
+                : request.getDescription(false).replace("uri=", "");
+    }
 }
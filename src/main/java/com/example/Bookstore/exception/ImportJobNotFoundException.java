@@ -0,0 +1,19 @@
+package com.example.Bookstore.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ImportJobNotFoundException extends StacklessDomainException {
+
+    private final String jobId;
+
+    public ImportJobNotFoundException(final String jobId) {
+        super(null);
+        this.jobId = jobId;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Import job not found with id: " + jobId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Bookstore.exception;
+
+public class ImportQueueFullException extends StacklessDomainException {
+    public ImportQueueFullException() {
+        super("Import queue is full, retry later");
+    }
+}
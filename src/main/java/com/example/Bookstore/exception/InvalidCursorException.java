@@ -0,0 +1,19 @@
+package com.example.Bookstore.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidCursorException extends StacklessDomainException {
+
+    private final String cursor;
+
+    public InvalidCursorException(final String cursor) {
+        super(null);
+        this.cursor = cursor;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Invalid page cursor: " + cursor;
+    }
+}
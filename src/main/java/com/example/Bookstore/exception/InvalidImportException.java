@@ -0,0 +1,7 @@
+package com.example.Bookstore.exception;
+
+public class InvalidImportException extends StacklessDomainException {
+    public InvalidImportException(final String message) {
+        super(message);
+    }
+}
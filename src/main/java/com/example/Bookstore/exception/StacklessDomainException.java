@@ -0,0 +1,11 @@
+package com.example.Bookstore.exception;
+
+// Base of the expected failures that GlobalRestExceptionHandler turns into 4xx responses. They are control flow, not
+// bugs, so no stack trace is captured (filling one in through the filter chain is most of the cost of throwing) and
+// subclasses keep their arguments and build the message only when it is read
+public abstract class StacklessDomainException extends RuntimeException {
+
+    protected StacklessDomainException(final String message) {
+        super(message, null, false, false);
+    }
+}
@@ -1,24 +1,51 @@
 package com.example.Bookstore.health;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
+import java.time.Instant;
+
+// Probes on a schedule and serves the last result, so actuator scrapes never block on or multiply outbound calls
 @Component
 public class RecommendationServiceHealthChecker implements HealthIndicator {
 
+    @Autowired
+    private RestClient recommendationRestClient;
+
+    @Value("${bookstore.recommendation.health-url:http://localhost:8080/api/recommend/healthcheck}")
+    private String recommendedServiceUrl;
+
+    private volatile Health health = Health.unknown().withDetail("Recommendation Service", "Not checked yet").build();
+
     @Override
     public Health health() {
+        return health;
+    }
+
+    @Scheduled(initialDelayString = "${bookstore.recommendation.health-initial-delay-ms:0}",
+            fixedDelayString = "${bookstore.recommendation.health-refresh-interval-ms:15000}")
+    public void refresh() {
+        health = probe();
+    }
+
+    Health probe() {
         try {
-            final var restTemplate = new RestTemplate();
-            final var recommendedServiceUrl = "http://localhost:8080/api/recommend/healthcheck";
-            return restTemplate.getForEntity(recommendedServiceUrl, String.class).getStatusCode().is2xxSuccessful()
-                    && "OK".equals(restTemplate.getForObject(recommendedServiceUrl, String.class))
-                    ? Health.up().withDetail("Recommendation Service", "Available").build()
-                    : Health.down().withDetail("Recommendation Service", "Unhealthy response").build();
+            final var response = recommendationRestClient.get().uri(recommendedServiceUrl).retrieve().toEntity(String.class);
+            return response.getStatusCode().is2xxSuccessful() && "OK".equals(response.getBody())
+                    ? Health.up().withDetail("Recommendation Service", "Available").withDetail("checkedAt", Instant.now()).build()
+                    : Health.down().withDetail("Recommendation Service", "Unhealthy response").withDetail("checkedAt", Instant.now()).build();
+        } catch (final RestClientResponseException e) {
+            return Health.down().withDetail("Recommendation Service", "Unhealthy response").withDetail("status", e.getStatusCode().value())
+                    .withDetail("checkedAt", Instant.now()).build();
         } catch (final Exception e) {
-            return Health.down(e).withDetail("Recommendation Service", "Not reachable").withDetail("error", e.getMessage()).build();
+            return Health.down(e).withDetail("Recommendation Service", "Not reachable").withDetail("error", e.getMessage())
+                    .withDetail("checkedAt", Instant.now()).build();
         }
     }
 }
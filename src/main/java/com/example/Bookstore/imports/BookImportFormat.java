@@ -0,0 +1,28 @@
+package com.example.Bookstore.imports;
+
+import com.example.Bookstore.exception.InvalidImportException;
+
+import java.util.Locale;
+
+public enum BookImportFormat {
+    CSV,
+    NDJSON;
+
+    // File extension wins over the part's content type, which clients often leave as application/octet-stream
+    public static BookImportFormat detect(final String filename, final String contentType) {
+        final var name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (contentType != null && contentType.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (contentType != null && (contentType.startsWith("application/x-ndjson") || contentType.startsWith("application/jsonl"))) {
+            return NDJSON;
+        }
+        throw new InvalidImportException("Unsupported import file, expected .csv or .ndjson: " + filename);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.Bookstore.imports;
+
+import com.example.Bookstore.payload.BookImportErrorDTO;
+import com.example.Bookstore.payload.BookImportJobDTO;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one import; written by the executor thread, read by status requests
+@Getter
+public class BookImportJob {
+
+    private final String id;
+    private final BookImportFormat format;
+    private final int maxErrors;
+    private final Instant createdAt = Instant.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<BookImportErrorDTO> errors = new ArrayList<>();
+    private volatile BookImportStatus status = BookImportStatus.QUEUED;
+    private volatile String message;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public BookImportJob(final String id, final BookImportFormat format, final int maxErrors) {
+        this.id = id;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = BookImportStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = BookImportStatus.COMPLETED;
+    }
+
+    void fail(final String message) {
+        this.message = message;
+        finishedAt = Instant.now();
+        status = BookImportStatus.FAILED;
+    }
+
+    void rowProcessed() {
+        processedRows.incrementAndGet();
+    }
+
+    void rowsImported(final int rows) {
+        importedRows.addAndGet(rows);
+    }
+
+    // Every failure is counted, but only the first maxErrors are kept so a bad feed cannot exhaust the heap
+    void rowFailed(final long line, final String error) {
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new BookImportErrorDTO(line, error));
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public BookImportJobDTO toDTO() {
+        final List<BookImportErrorDTO> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return new BookImportJobDTO(id, status, format, processedRows.get(), importedRows.get(), failedRows.get(),
+                errorsCopy, message, createdAt, startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.Bookstore.imports;
+
+import com.example.Bookstore.config.BookImportConfig;
+import com.example.Bookstore.exception.ImportJobNotFoundException;
+import com.example.Bookstore.exception.ImportQueueFullException;
+import com.example.Bookstore.exception.InvalidImportException;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.service.BookService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Runs CSV/NDJSON uploads as background jobs: the file is read line by line, each row validated, and valid rows are
+// persisted through BookService.addBooks one chunk at a time so progress is visible while the job runs
+@Service
+@Slf4j
+public class BookImportService {
+
+    private static final List<String> CSV_COLUMNS = List.of("title", "author", "price");
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    @Qualifier(BookImportConfig.BOOK_IMPORT_EXECUTOR)
+    private TaskExecutor bookImportExecutor;
+
+    @Value("${bookstore.books.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${bookstore.books.import.max-errors:100}")
+    private int maxErrors;
+
+    @Value("${bookstore.books.import.retention:1h}")
+    private Duration retention;
+
+    private final Map<String, BookImportJob> jobs = new ConcurrentHashMap<>();
+
+    // Copies the upload out of the request first: the container deletes its own temp file once the request completes
+    public BookImportJob submit(final MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidImportException("Import file is empty");
+        }
+        final var format = BookImportFormat.detect(file.getOriginalFilename(), file.getContentType());
+        final var path = Files.createTempFile("book-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        file.transferTo(path);
+
+        evictFinishedJobs();
+        final var job = new BookImportJob(UUID.randomUUID().toString(), format, maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            bookImportExecutor.execute(() -> run(job, path));
+        } catch (final TaskRejectedException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(path);
+            throw new ImportQueueFullException();
+        }
+        log.debug("Import job {} queued for {} ({} bytes)", job.getId(), file.getOriginalFilename(), file.getSize());
+        return job;
+    }
+
+    public BookImportJob getJob(final String jobId) {
+        final var job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    void run(final BookImportJob job, final Path path) {
+        job.start();
+        try (final var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (job.getFormat() == BookImportFormat.CSV) {
+                importCsv(job, reader);
+            } else {
+                importNdjson(job, reader);
+            }
+            job.complete();
+        } catch (final Exception e) {
+            log.debug("Import job {} failed: {}", job.getId(), e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(path);
+        }
+        log.debug("Import job {} {}: {} imported, {} failed", job.getId(), job.getStatus(), job.getImportedRows(), job.getFailedRows());
+    }
+
+    private void importCsv(final BookImportJob job, final BufferedReader reader) throws IOException {
+        final var header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        final var columns = csvColumns(splitCsvLine(header));
+        final var chunk = new ArrayList<BookDTO>(chunkSize);
+        var line = 1L;
+        String row;
+        while ((row = reader.readLine()) != null) {
+            line++;
+            if (row.isBlank()) {
+                continue;
+            }
+            final var values = splitCsvLine(row);
+            final BookDTO bookDTO;
+            try {
+                bookDTO = new BookDTO(value(values, columns.get("title")), value(values, columns.get("author")), price(value(values, columns.get("price"))));
+            } catch (final IllegalArgumentException e) {
+                job.rowProcessed();
+                job.rowFailed(line, e.getMessage());
+                continue;
+            }
+            accept(job, line, bookDTO, chunk);
+        }
+        flush(job, chunk);
+    }
+
+    private void importNdjson(final BookImportJob job, final BufferedReader reader) throws IOException {
+        final var bookReader = objectMapper.readerFor(BookDTO.class);
+        final var chunk = new ArrayList<BookDTO>(chunkSize);
+        var line = 0L;
+        String row;
+        while ((row = reader.readLine()) != null) {
+            line++;
+            if (row.isBlank()) {
+                continue;
+            }
+            final BookDTO bookDTO;
+            try {
+                bookDTO = bookReader.readValue(row);
+            } catch (final JsonProcessingException e) {
+                job.rowProcessed();
+                job.rowFailed(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(job, line, bookDTO, chunk);
+        }
+        flush(job, chunk);
+    }
+
+    private void accept(final BookImportJob job, final long line, final BookDTO bookDTO, final List<BookDTO> chunk) {
+        job.rowProcessed();
+        final var violations = validator.validate(bookDTO);
+        if (!violations.isEmpty()) {
+            job.rowFailed(line, String.join(", ", violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList()));
+            return;
+        }
+        chunk.add(bookDTO);
+        if (chunk.size() >= chunkSize) {
+            flush(job, chunk);
+        }
+    }
+
+    private void flush(final BookImportJob job, final List<BookDTO> chunk) {
+        if (!chunk.isEmpty()) {
+            bookService.addBooks(List.copyOf(chunk));
+            job.rowsImported(chunk.size());
+            chunk.clear();
+        }
+    }
+
+    private void evictFinishedJobs() {
+        final var cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static Map<String, Integer> csvColumns(final List<String> header) {
+        final var columns = new HashMap<String, Integer>();
+        for (var i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(CSV_COLUMNS)) {
+            throw new InvalidImportException("CSV header must contain columns " + CSV_COLUMNS + " but was " + header);
+        }
+        return columns;
+    }
+
+    private static String value(final List<String> values, final int column) {
+        return column < values.size() ? values.get(column).trim() : null;
+    }
+
+    private static BigDecimal price(final String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("price: not a number: " + value);
+        }
+    }
+
+    // RFC 4180 fields on a single line: commas inside double quotes, "" for a literal quote
+    static List<String> splitCsvLine(final String line) {
+        final var values = new ArrayList<String>();
+        final var value = new StringBuilder();
+        var quoted = false;
+        for (var i = 0; i < line.length(); i++) {
+            final var c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            log.debug("Could not delete import file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Bookstore.imports;
+
+public enum BookImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
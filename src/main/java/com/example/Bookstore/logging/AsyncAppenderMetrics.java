@@ -0,0 +1,32 @@
+package com.example.Bookstore.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// bookstore.logging.queue.{size,remaining}{appender}: fill level of the async logging queues from logback-spring.xml.
+// remaining near zero means events are being dropped or callers blocked; logback.events counts what was logged
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof final LoggerContext context)) {
+            return;
+        }
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders().forEachRemaining(appender -> {
+            if (appender instanceof final AsyncAppender async) {
+                Gauge.builder("bookstore.logging.queue.size", async, AsyncAppender::getNumberOfElementsInQueue)
+                        .tag("appender", async.getName())
+                        .register(registry);
+                Gauge.builder("bookstore.logging.queue.remaining", async, AsyncAppender::getRemainingCapacity)
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.Bookstore.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lets one in every `every` events through for repetitive events (a not-found per missed id, a shed request) logged
+// with the SAMPLED marker; counted per logger and message template, so one noisy event does not mute another. Runs
+// before any message is formatted or appended, and only counts events the logger's level would have written
+public class SampledEventTurboFilter extends TurboFilter {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private final ConcurrentMap<String, ConcurrentMap<String, AtomicLong>> counters = new ConcurrentHashMap<>();
+
+    private long every = 100;
+
+    public void setEvery(final long every) {
+        this.every = every;
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable t) {
+        if (format == null || marker == null || !marker.contains(SAMPLED) || every <= 1
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        // Templates are constants, so the maps stay as small as the set of sampled log statements
+        final var count = counters.computeIfAbsent(logger.getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(format, key -> new AtomicLong())
+                .getAndIncrement();
+        return count % every == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
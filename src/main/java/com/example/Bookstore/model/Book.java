@@ -1,21 +1,71 @@
 package com.example.Bookstore.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Locale;
 
 @Entity
 @Data
+// Second-level cache region "book"; only active with the l2cache profile
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
+@Table(indexes = {
+        @Index(name = "idx_book_title_key", columnList = "title_key"),
+        @Index(name = "idx_book_author_key", columnList = "author_key"),
+        @Index(name = "idx_book_price", columnList = "price")
+})
 public class Book {
 
         @Id
-        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        // Pooled allocation: one sequence call hands out 100 ids, matching hibernate.jdbc.batch_size
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+        @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 100)
         private Long id;
         private String title;
         private String author;
         private BigDecimal price;
+
+        // Optimistic locking; also the source of the strong ETag served for the book
+        @Version
+        private Long version;
+
+        private Instant lastModified;
+
+        // Lower-cased copies so case-insensitive prefix search can use a plain index on any database
+        @JsonIgnore
+        @Column(name = "title_key")
+        private String titleKey;
+
+        @JsonIgnore
+        @Column(name = "author_key")
+        private String authorKey;
+
+        @PrePersist
+        @PreUpdate
+        void beforeWrite() {
+                titleKey = searchKey(title);
+                authorKey = searchKey(author);
+                lastModified = Instant.now();
+        }
+
+        public static String searchKey(final String value) {
+                return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
 }
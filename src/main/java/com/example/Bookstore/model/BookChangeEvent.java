@@ -0,0 +1,47 @@
+package com.example.Bookstore.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.Instant;
+
+// Transactional outbox row written next to every book change. Ids are allocated in pooled blocks and commit out of
+// order, so the feed relay assigns the gap-free, commit-ordered sequence that clients resume from once committed
+@Entity
+@Data
+@Table(name = "book_change_event")
+public class BookChangeEvent {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_change_event_seq")
+        @SequenceGenerator(name = "book_change_event_seq", sequenceName = "book_change_event_seq", allocationSize = 100)
+        private Long id;
+
+        // Null until the relay has published the event; the unique index also serves the relay and resume queries
+        @Column(unique = true)
+        private Long sequence;
+
+        @Enumerated(EnumType.STRING)
+        @Column(length = 16)
+        private BookChangeType type;
+
+        private Long bookId;
+
+        private Instant occurredAt;
+
+        public static BookChangeEvent of(final BookChangeType type, final Long bookId) {
+                final var event = new BookChangeEvent();
+                event.setType(type);
+                event.setBookId(bookId);
+                event.setOccurredAt(Instant.now());
+                return event;
+        }
+}
@@ -0,0 +1,10 @@
+package com.example.Bookstore.model;
+
+// What happened to a book, as recorded in the change outbox
+public enum BookChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    // A range of the catalogue was deleted set-based without loading the rows; there is no book id, clients resync
+    PURGED
+}
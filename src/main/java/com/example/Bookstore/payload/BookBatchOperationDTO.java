@@ -0,0 +1,18 @@
+package com.example.Bookstore.payload;
+
+import com.example.Bookstore.service.BookBatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+public record BookBatchOperationDTO(
+
+        @Schema(description = "Operation to apply", example = "UPDATE", requiredMode = RequiredMode.REQUIRED)
+        BookBatchOperationType type,
+
+        @Schema(description = "Id of the book to update or delete; not used by CREATE", example = "42")
+        Long id,
+
+        @Schema(description = "New state of the book for CREATE and UPDATE; not used by DELETE")
+        BookDTO book
+) {
+}
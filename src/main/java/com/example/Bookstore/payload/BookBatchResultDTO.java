@@ -0,0 +1,29 @@
+package com.example.Bookstore.payload;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.service.BookBatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record BookBatchResultDTO(
+
+        @Schema(description = "Position of the operation in the request", example = "0")
+        Integer index,
+
+        @Schema(description = "Operation that was requested", example = "UPDATE")
+        BookBatchOperationType type,
+
+        @Schema(description = "Id of the book written, null when the operation was rejected before it had one", example = "42")
+        Long id,
+
+        @Schema(description = "HTTP status the single-book endpoint would have returned", example = "200")
+        Integer status,
+
+        @Schema(description = "Created or updated book; null for deletes, which run set-based without loading the row, and on failure")
+        Book book,
+
+        @Schema(description = "Why the operation was not applied; null on success")
+        List<String> errors
+) {
+}
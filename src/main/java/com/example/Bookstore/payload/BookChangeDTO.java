@@ -0,0 +1,22 @@
+package com.example.Bookstore.payload;
+
+import com.example.Bookstore.model.BookChangeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+public record BookChangeDTO(
+
+        @Schema(description = "Position in the change feed; pass it back as Last-Event-ID or after to resume", example = "1024")
+        Long sequence,
+
+        @Schema(description = "Kind of change", example = "UPDATED")
+        BookChangeType type,
+
+        @Schema(description = "Id of the changed book, null for PURGED", example = "42")
+        Long bookId,
+
+        @Schema(description = "When the change was written")
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,6 @@
+package com.example.Bookstore.payload;
+
+public record BookCreateSummaryDTO(
+        Long created
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.Bookstore.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record BookDeleteSummaryDTO(
+
+        @Schema(description = "Number of books deleted", example = "250000")
+        Long deleted
+) {
+}
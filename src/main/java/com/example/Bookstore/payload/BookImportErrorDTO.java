@@ -0,0 +1,7 @@
+package com.example.Bookstore.payload;
+
+public record BookImportErrorDTO(
+        long line,
+        String error
+) {
+}
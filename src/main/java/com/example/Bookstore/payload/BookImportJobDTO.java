@@ -0,0 +1,22 @@
+package com.example.Bookstore.payload;
+
+import com.example.Bookstore.imports.BookImportFormat;
+import com.example.Bookstore.imports.BookImportStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+public record BookImportJobDTO(
+        String jobId,
+        BookImportStatus status,
+        BookImportFormat format,
+        long processedRows,
+        long importedRows,
+        long failedRows,
+        List<BookImportErrorDTO> errors,
+        String message,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
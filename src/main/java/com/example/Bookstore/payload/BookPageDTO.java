@@ -0,0 +1,19 @@
+package com.example.Bookstore.payload;
+
+import com.example.Bookstore.model.Book;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record BookPageDTO(
+
+        @Schema(description = "Books in this page, ordered by id")
+        List<Book> books,
+
+        @Schema(description = "Opaque token for the next page, null on the last page", example = "MTA")
+        String nextCursor,
+
+        @Schema(description = "Effective page size after applying the cap", example = "20")
+        Integer size
+) {
+}
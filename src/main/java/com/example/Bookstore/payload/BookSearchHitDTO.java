@@ -0,0 +1,24 @@
+package com.example.Bookstore.payload;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+public record BookSearchHitDTO(
+
+        @Schema(description = "Book Id", example = "1")
+        Long id,
+
+        @Schema(description = "Book Title", example = "Harry Potter")
+        String title,
+
+        @Schema(description = "Author Name", example = "J.K. Rowling")
+        String author,
+
+        @Schema(description = "Book Price", example = "599.99")
+        BigDecimal price,
+
+        @Schema(description = "Relevance score, higher is better", example = "2.77")
+        Double score
+) {
+}
@@ -0,0 +1,35 @@
+package com.example.Bookstore.repository;
+
+import com.example.Bookstore.model.BookChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BookChangeEventRepository extends JpaRepository<BookChangeEvent, Long> {
+
+    // Relay: committed events not yet published, in id order
+    List<BookChangeEvent> findBySequenceIsNullOrderByIdAsc(Limit limit);
+
+    // Catch-up for a subscriber that resumes from before the in-memory ring buffer
+    List<BookChangeEvent> findBySequenceGreaterThanOrderBySequenceAsc(Long sequence, Limit limit);
+
+    @Query("select max(e.sequence) from BookChangeEvent e")
+    Long findMaxSequence();
+
+    @Query("select min(e.sequence) from BookChangeEvent e")
+    Long findMinSequence();
+
+    // Retention: published events older than the cutoff; unpublished ones are kept until the relay has seen them, and
+    // the newest published one always stays as the high-water mark the relay numbers from
+    @Modifying
+    @Query("delete from BookChangeEvent e where e.sequence is not null and e.occurredAt < :cutoff"
+            + " and e.sequence < (select max(h.sequence) from BookChangeEvent h)")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
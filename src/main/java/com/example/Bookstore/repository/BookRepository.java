@@ -1,9 +1,62 @@
 package com.example.Bookstore.repository;
 
 import com.example.Bookstore.model.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+
+    // The list and search queries carry the cacheable hint; it only takes effect with the l2cache profile
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Book> findAll();
+
+    // Keyset pagination: first page of the catalogue ordered by id
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Book> findAllByOrderByIdAsc(Limit limit);
+
+    // Keyset pagination: next page strictly after the last id already served
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Redeclared only to attach the hint to BookService.searchBooks' specification queries
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    <S extends Book, R> R findBy(Specification<Book> spec, Function<? super SpecificationFluentQuery<S>, R> queryFunction);
+
+    // Cursor over the whole catalogue for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamAllByOrderByIdAsc();
+
+    // Keyset chunking for purges: the next ids from fromId on, read from the primary key index without loading rows
+    @Query("select b.id from Book b where b.id >= :fromId order by b.id")
+    List<Long> findIdsFrom(@Param("fromId") Long fromId, Limit limit);
+
+    // Which of the given ids still exist, without loading the rows
+    @Query("select b.id from Book b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Set-based delete of one id range; bypasses the persistence context entirely
+    @Modifying
+    @Query("delete from Book b where b.id between :fromId and :toId")
+    int deleteByIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,43 @@
+package com.example.Bookstore.repository;
+
+import com.example.Bookstore.model.Book;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+public final class BookSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private BookSpecifications() {
+    }
+
+    public static Specification<Book> titleStartsWith(final String prefix) {
+        return (root, query, cb) -> cb.like(root.get("titleKey"), likePrefix(prefix), LIKE_ESCAPE);
+    }
+
+    public static Specification<Book> authorStartsWith(final String prefix) {
+        return (root, query, cb) -> cb.like(root.get("authorKey"), likePrefix(prefix), LIKE_ESCAPE);
+    }
+
+    public static Specification<Book> priceAtLeast(final BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Book> priceAtMost(final BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Book> idGreaterThan(final Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    // Anchored at the start so the normalised key index can serve the match
+    private static String likePrefix(final String prefix) {
+        final var escaped = Book.searchKey(prefix)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+}
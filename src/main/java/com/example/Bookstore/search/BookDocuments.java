@@ -0,0 +1,155 @@
+package com.example.Bookstore.search;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Title, author and price of every indexed book, the fields a search hit returns, in parallel arrays. Ids map to array
+// slots through an open-addressing table of ints, so there is no entity copy, boxed key or map entry per book; slots
+// freed by removals are reused
+final class BookDocuments {
+
+    private static final int INITIAL_SLOTS = 16;
+
+    // Slot + 1 per bucket, 0 for an empty bucket; linear probing, kept at most half full
+    private int[] table = new int[INITIAL_SLOTS * 2];
+    private long[] ids = new long[INITIAL_SLOTS];
+    private String[] titles = new String[INITIAL_SLOTS];
+    private String[] authors = new String[INITIAL_SLOTS];
+    private BigDecimal[] prices = new BigDecimal[INITIAL_SLOTS];
+    private final BitSet live = new BitSet();
+    private int[] freeSlots = new int[INITIAL_SLOTS];
+    private int freeCount;
+    private int slotCount;
+    private int size;
+
+    // Slot of the book with the given id, or -1
+    int slotOf(final long id) {
+        final var mask = table.length - 1;
+        for (var bucket = bucket(id, mask); table[bucket] != 0; bucket = (bucket + 1) & mask) {
+            if (ids[table[bucket] - 1] == id) {
+                return table[bucket] - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Adds the book or replaces its fields
+    void put(final long id, final String title, final String author, final BigDecimal price) {
+        var slot = slotOf(id);
+        if (slot < 0) {
+            if ((size + 1) * 2 > table.length) {
+                rehash(table.length * 2);
+            }
+            slot = freeCount > 0 ? freeSlots[--freeCount] : newSlot();
+            ids[slot] = id;
+            live.set(slot);
+            link(slot);
+            size++;
+        }
+        titles[slot] = title;
+        authors[slot] = author;
+        prices[slot] = price;
+    }
+
+    void remove(final int slot) {
+        unlink(slot);
+        live.clear(slot);
+        titles[slot] = null;
+        authors[slot] = null;
+        prices[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    void clear() {
+        table = new int[INITIAL_SLOTS * 2];
+        ids = new long[INITIAL_SLOTS];
+        titles = new String[INITIAL_SLOTS];
+        authors = new String[INITIAL_SLOTS];
+        prices = new BigDecimal[INITIAL_SLOTS];
+        live.clear();
+        freeSlots = new int[INITIAL_SLOTS];
+        freeCount = 0;
+        slotCount = 0;
+        size = 0;
+    }
+
+    // Next occupied slot at or after the given one, or -1; for scans over every book
+    int nextSlot(final int from) {
+        return live.nextSetBit(from);
+    }
+
+    long id(final int slot) {
+        return ids[slot];
+    }
+
+    String title(final int slot) {
+        return titles[slot];
+    }
+
+    String author(final int slot) {
+        return authors[slot];
+    }
+
+    BigDecimal price(final int slot) {
+        return prices[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int newSlot() {
+        if (slotCount == ids.length) {
+            final var capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            authors = Arrays.copyOf(authors, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void link(final int slot) {
+        final var mask = table.length - 1;
+        var bucket = bucket(ids[slot], mask);
+        while (table[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        table[bucket] = slot + 1;
+    }
+
+    // Backward-shift deletion: later entries of the probe run move into the gap, so lookups need no tombstones
+    private void unlink(final int slot) {
+        final var mask = table.length - 1;
+        var gap = bucket(ids[slot], mask);
+        while (table[gap] != slot + 1) {
+            gap = (gap + 1) & mask;
+        }
+        for (var bucket = (gap + 1) & mask; table[bucket] != 0; bucket = (bucket + 1) & mask) {
+            final var home = bucket(ids[table[bucket] - 1], mask);
+            // The entry may move back only if the gap lies on its probe path, between its home bucket and where it is
+            if (((bucket - home) & mask) >= ((bucket - gap) & mask)) {
+                table[gap] = table[bucket];
+                gap = bucket;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    private void rehash(final int buckets) {
+        table = new int[buckets];
+        for (var slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            link(slot);
+        }
+    }
+
+    // Fibonacci hashing spreads sequential ids over the whole table
+    private static int bucket(final long id, final int mask) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.Bookstore.search;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import com.example.Bookstore.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-process inverted index over title and author, holding only the fields a hit returns; kept in sync by BookService
+// after each committed write
+@Component
+@Slf4j
+public class BookSearchIndex {
+
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double AUTHOR_WEIGHT = 1.0;
+
+    private final Map<String, LongPostings> titlePostings = new HashMap<>();
+    private final Map<String, LongPostings> authorPostings = new HashMap<>();
+    private final BookDocuments documents = new BookDocuments();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Runs before CommandLineRunners, so seed data written at startup is indexed incrementally afterwards
+    @EventListener(ApplicationStartedEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        clear();
+        try (final var books = bookRepository.streamAllByOrderByIdAsc()) {
+            books.forEach(book -> {
+                index(book);
+                entityManager.detach(book);
+            });
+        }
+        log.info("Search index built with {} books", size());
+    }
+
+    public void index(final Book book) {
+        if (book == null || book.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            final long id = book.getId();
+            removeDocument(id);
+            documents.put(id, book.getTitle(), book.getAuthor(), book.getPrice());
+            tokenize(book.getTitle()).forEach(token -> titlePostings.computeIfAbsent(token, key -> new LongPostings()).add(id));
+            tokenize(book.getAuthor()).forEach(token -> authorPostings.computeIfAbsent(token, key -> new LongPostings()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexAll(final Collection<Book> books) {
+        books.forEach(this::index);
+    }
+
+    public void remove(final Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Bulk removal: one scan finds the books in the range and collects their tokens, then each affected postings list
+    // is compacted once instead of shifted per book. A range covering every indexed book just clears the index
+    public void removeRange(final Long fromId, final Long toId) {
+        lock.writeLock().lock();
+        try {
+            final var slots = new ArrayList<Integer>();
+            for (var slot = documents.nextSlot(0); slot >= 0; slot = documents.nextSlot(slot + 1)) {
+                if (documents.id(slot) >= fromId && documents.id(slot) <= toId) {
+                    slots.add(slot);
+                }
+            }
+            if (slots.isEmpty()) {
+                return;
+            }
+            if (slots.size() == documents.size()) {
+                clear();
+                return;
+            }
+            final var titleTokens = new HashSet<String>();
+            final var authorTokens = new HashSet<String>();
+            for (final int slot : slots) {
+                titleTokens.addAll(tokenize(documents.title(slot)));
+                authorTokens.addAll(tokenize(documents.author(slot)));
+                documents.remove(slot);
+            }
+            removePostingRange(titlePostings, titleTokens, fromId, toId);
+            removePostingRange(authorPostings, authorTokens, fromId, toId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            titlePostings.clear();
+            authorPostings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ranks by summed idf of matched tokens, title matches weighted above author matches; any matched token counts
+    public List<BookSearchHitDTO> search(final String query, final int limit) {
+        final var tokens = tokenize(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            final var postings = new ArrayList<WeightedPostings>();
+            for (final var token : tokens) {
+                final var inTitle = titlePostings.get(token);
+                final var inAuthor = authorPostings.get(token);
+                final var documentFrequency = (inTitle != null ? inTitle.size() : 0) + (inAuthor != null ? inAuthor.size() : 0);
+                if (documentFrequency == 0) {
+                    continue;
+                }
+                final var idf = Math.log(1 + (double) documents.size() / documentFrequency);
+                if (inTitle != null) {
+                    postings.add(new WeightedPostings(inTitle, idf * TITLE_WEIGHT));
+                }
+                if (inAuthor != null) {
+                    postings.add(new WeightedPostings(inAuthor, idf * AUTHOR_WEIGHT));
+                }
+            }
+            postings.sort(Comparator.comparingDouble(WeightedPostings::weight));
+            return topHits(postings, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // MaxScore top-k: every list adds its weight to each book it holds, and lists come lightest first. Once the heap
+    // holds `limit` books, the lightest lists whose weights together cannot beat its worst score stop producing
+    // candidates and are only probed, by binary search, for books the heavier lists found. Frequent tokens have the
+    // lowest idf, so their long lists drop out first and are no longer scanned. Candidates arrive in ascending id order
+    // and lose ties, so the hits are exactly those of a full merge
+    private List<BookSearchHitDTO> topHits(final List<WeightedPostings> postings, final int limit) {
+        final var lists = postings.size();
+        final var bounds = new double[lists];
+        for (var i = 0; i < lists; i++) {
+            bounds[i] = (i > 0 ? bounds[i - 1] : 0.0) + postings.get(i).weight();
+        }
+        final var positions = new int[lists];
+        final var matched = new boolean[lists];
+        final var top = new PriorityQueue<ScoredDocument>(limit + 1, ScoredDocument.WORST_FIRST);
+        var threshold = Double.NEGATIVE_INFINITY;
+        // Lists below this index only confirm candidates
+        var essential = 0;
+        while (essential < lists) {
+            var next = Long.MAX_VALUE;
+            for (var i = essential; i < lists; i++) {
+                final var list = postings.get(i).postings();
+                if (positions[i] < list.size()) {
+                    next = Math.min(next, list.get(positions[i]));
+                }
+            }
+            if (next == Long.MAX_VALUE) {
+                break;
+            }
+            Arrays.fill(matched, false);
+            var bound = 0.0;
+            for (var i = essential; i < lists; i++) {
+                final var list = postings.get(i).postings();
+                if (positions[i] < list.size() && list.get(positions[i]) == next) {
+                    matched[i] = true;
+                    bound += postings.get(i).weight();
+                    positions[i]++;
+                }
+            }
+            for (var i = essential - 1; i >= 0 && bound + bounds[i] > threshold; i--) {
+                final var list = postings.get(i).postings();
+                positions[i] = list.seek(positions[i], next);
+                if (positions[i] < list.size() && list.get(positions[i]) == next) {
+                    matched[i] = true;
+                    bound += postings.get(i).weight();
+                }
+            }
+            if (top.size() < limit || bound > threshold) {
+                // Summed in list order, so books matching the same lists score exactly alike
+                var score = 0.0;
+                for (var i = 0; i < lists; i++) {
+                    if (matched[i]) {
+                        score += postings.get(i).weight();
+                    }
+                }
+                top.offer(new ScoredDocument(next, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+                if (top.size() == limit) {
+                    threshold = top.peek().score();
+                    while (essential < lists && bounds[essential] <= threshold) {
+                        essential++;
+                    }
+                }
+            }
+        }
+        final var ranked = new ArrayList<>(top);
+        ranked.sort(ScoredDocument.WORST_FIRST.reversed());
+        return ranked.stream()
+                .map(scored -> {
+                    final var slot = documents.slotOf(scored.id());
+                    return new BookSearchHitDTO(scored.id(), documents.title(slot), documents.author(slot), documents.price(slot), scored.score());
+                })
+                .toList();
+    }
+
+    private void removeDocument(final long id) {
+        final var slot = documents.slotOf(id);
+        if (slot >= 0) {
+            tokenize(documents.title(slot)).forEach(token -> removePosting(titlePostings, token, id));
+            tokenize(documents.author(slot)).forEach(token -> removePosting(authorPostings, token, id));
+            documents.remove(slot);
+        }
+    }
+
+    private static void removePosting(final Map<String, LongPostings> index, final String token, final long id) {
+        final var postings = index.get(token);
+        if (postings != null) {
+            postings.remove(id);
+            if (postings.isEmpty()) {
+                index.remove(token);
+            }
+        }
+    }
+
+    private static void removePostingRange(final Map<String, LongPostings> index, final Set<String> tokens, final long fromId, final long toId) {
+        for (final var token : tokens) {
+            final var postings = index.get(token);
+            if (postings != null) {
+                postings.removeRange(fromId, toId);
+                if (postings.isEmpty()) {
+                    index.remove(token);
+                }
+            }
+        }
+    }
+
+    static Set<String> tokenize(final String text) {
+        final var tokens = new LinkedHashSet<String>();
+        if (text != null) {
+            final var lower = text.toLowerCase(Locale.ROOT);
+            var start = -1;
+            for (var i = 0; i <= lower.length(); i++) {
+                final var inToken = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+                if (inToken && start < 0) {
+                    start = i;
+                } else if (!inToken && start >= 0) {
+                    tokens.add(lower.substring(start, i));
+                    start = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private record WeightedPostings(LongPostings postings, double weight) {
+    }
+
+    private record ScoredDocument(long id, double score) {
+        // Lowest score first; on ties the higher id is dropped first so older books win
+        static final Comparator<ScoredDocument> WORST_FIRST = Comparator.comparingDouble(ScoredDocument::score)
+                .thenComparing(Comparator.comparingLong(ScoredDocument::id).reversed());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.Bookstore.search;
+
+import java.util.Arrays;
+
+// Sorted, duplicate-free list of book ids backed by a growable long[] (no boxing per posting)
+final class LongPostings {
+
+    // Most tokens (numbers, rare words) occur in a single book, so lists start with room for one id
+    private long[] ids = new long[1];
+    private int size;
+
+    void add(final long id) {
+        // Ids mostly arrive in ascending order, so appending is the common case
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        final var position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            final var insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+    }
+
+    void remove(final long id) {
+        final var position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+
+    // Drops every id in [fromId, toId] with a single shift of the tail
+    void removeRange(final long fromId, final long toId) {
+        final var from = insertionPoint(fromId);
+        final var to = insertionPoint(toId + 1);
+        if (from < to) {
+            System.arraycopy(ids, to, ids, from, size - to);
+            size -= to - from;
+        }
+    }
+
+    // Index of the first id >= the given one at or after position from
+    int seek(final int from, final long id) {
+        final var position = Arrays.binarySearch(ids, from, size, id);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    long get(final int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Index of the first id >= the given one
+    private int insertionPoint(final long id) {
+        final var position = Arrays.binarySearch(ids, 0, size, id);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/books").permitAll()
                         .requestMatchers("/api/v1/books/{id}").permitAll()
                         .requestMatchers("/api/v1/books/all").permitAll()
+                        .requestMatchers("/api/v1/books/all/stream").permitAll()
+                        .requestMatchers("/api/v1/books/imports", "/api/v1/books/imports/{jobId}").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**").permitAll()
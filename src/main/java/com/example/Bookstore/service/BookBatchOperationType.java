@@ -0,0 +1,8 @@
+package com.example.Bookstore.service;
+
+// Kind of write carried by one entry of POST /api/v1/books/batch
+public enum BookBatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,32 @@
+package com.example.Bookstore.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// Collection-level version of the catalogue: the newest sequence of the book_change_event outbox, advanced by
+// BookChangeFeed's relay as it tails numbered events. Sequences live in the shared database, so every instance serves
+// the same ETag for the same data and writes made by another instance or by the reactive application move it too.
+// It trails a commit by up to one relay poll; writes that bypass both applications must add an outbox row as well.
+@Component
+public class BookCatalogVersion {
+
+    private volatile long sequence;
+    private volatile Instant lastModified = Instant.now();
+
+    // Called by the single relay thread; never moves backwards
+    public void advance(final long sequence, final Instant occurredAt) {
+        if (sequence > this.sequence) {
+            lastModified = occurredAt != null ? occurredAt : Instant.now();
+            this.sequence = sequence;
+        }
+    }
+
+    public String etag() {
+        return "\"catalog-" + sequence + "\"";
+    }
+
+    public Instant lastModified() {
+        return lastModified;
+    }
+}
@@ -1,74 +1,551 @@
 package com.example.Bookstore.service;
 
+import com.example.Bookstore.config.CacheConfig;
 import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.exception.InvalidCursorException;
 import com.example.Bookstore.model.Book;
+import com.example.Bookstore.model.BookChangeEvent;
+import com.example.Bookstore.model.BookChangeType;
+import com.example.Bookstore.payload.BookBatchOperationDTO;
+import com.example.Bookstore.payload.BookBatchResultDTO;
+import com.example.Bookstore.payload.BookCreateSummaryDTO;
 import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookPageDTO;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import com.example.Bookstore.repository.BookChangeEventRepository;
 import com.example.Bookstore.repository.BookRepository;
+import com.example.Bookstore.repository.BookSpecifications;
+import com.example.Bookstore.search.BookSearchIndex;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+// One bookstore.book.service timer series per method (class/method tags); histograms and SLOs in application.properties.
+// Book cache hits return before the timer runs and are counted by the cache.gets metric instead.
+@Timed("bookstore.book.service")
 @Service
 public class BookService {
 
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private BookChangeEventRepository bookChangeEventRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${bookstore.books.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${bookstore.books.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${bookstore.books.import.chunk-size:1000}")
+    private int importChunkSize;
+
+    @Value("${bookstore.books.delete.chunk-size:10000}")
+    private int deleteChunkSize;
+
+    @Value("${bookstore.books.import.max-errors:100}")
+    private int maxValidationErrors;
+
+    @Value("${bookstore.books.batch.max-operations:10000}")
+    private int maxBatchOperations;
+
     public List<Book> getBooks() {
         return bookRepository.findAll();
     }
 
+    public BookPageDTO getBooksPage(final String cursor, final Integer size) {
+        final var pageSize = pageSize(size);
+        // Fetch one extra row to know whether another page exists without a count query
+        final var limit = Limit.of(pageSize + 1);
+        final var books = hasCursor(cursor)
+                ? bookRepository.findByIdGreaterThanOrderByIdAsc(decodeCursor(cursor), limit)
+                : bookRepository.findAllByOrderByIdAsc(limit);
+        return toPage(books, pageSize);
+    }
+
+    // Case-insensitive prefix match on title/author plus price range, keyset-paged by id like getBooksPage
+    public BookPageDTO searchBooks(final String title, final String author, final BigDecimal minPrice, final BigDecimal maxPrice,
+                                   final String cursor, final Integer size) {
+        final var pageSize = pageSize(size);
+        final var criteria = new ArrayList<Specification<Book>>();
+        if (title != null && !title.isBlank()) {
+            criteria.add(BookSpecifications.titleStartsWith(title));
+        }
+        if (author != null && !author.isBlank()) {
+            criteria.add(BookSpecifications.authorStartsWith(author));
+        }
+        if (minPrice != null) {
+            criteria.add(BookSpecifications.priceAtLeast(minPrice));
+        }
+        if (maxPrice != null) {
+            criteria.add(BookSpecifications.priceAtMost(maxPrice));
+        }
+        if (hasCursor(cursor)) {
+            criteria.add(BookSpecifications.idGreaterThan(decodeCursor(cursor)));
+        }
+        final var books = bookRepository.findBy(Specification.allOf(criteria),
+                query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        return toPage(books, pageSize);
+    }
+
+    // Writes the catalogue as NDJSON one row at a time, detaching each entity so heap use stays flat
+    @Transactional(readOnly = true)
+    public long exportBooks(final OutputStream outputStream) throws IOException {
+        final var writer = objectMapper.writerFor(Book.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        var count = 0L;
+        try (final var books = bookRepository.streamAllByOrderByIdAsc();
+             final var generator = objectMapper.getFactory().createGenerator(outputStream)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            for (final var iterator = books.iterator(); iterator.hasNext(); count++) {
+                final var book = iterator.next();
+                writer.writeValue(generator, book);
+                generator.writeRaw('\n');
+                entityManager.detach(book);
+            }
+        }
+        return count;
+    }
+
+    // Served entirely from the in-memory index, the database is not queried
+    public List<BookSearchHitDTO> searchFullText(final String query, final Integer limit) {
+        return bookSearchIndex.search(query, pageSize(limit));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id")
     public Book getBookById(final Long id) {
         return bookRepository.findById(id).orElseThrow(() -> new BookNotFoundException(id));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, allEntries = true)
+    @Transactional
     public List<Book> deleteBooks() {
         final var books = getBooks();
         if (!books.isEmpty()) {
             bookRepository.deleteAll();
+            recordChanges(BookChangeType.DELETED, books.stream().map(Book::getId).toList());
+            afterCommit(bookSearchIndex::clear);
         }
         return books;
     }
 
+    // Deletes the catalogue deleteChunkSize rows at a time, every chunk with one range statement in its own transaction.
+    // Chunk bounds are the first and last of the next deleteChunkSize ids, so sparse ids never cost empty transactions.
+    // The change feed gets a single PURGED event, written in the transaction of the first chunk that deletes rows, so
+    // no deletion ever commits without it
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, allEntries = true)
+    public long purgeBooks() {
+        var deleted = 0L;
+        var fromId = Long.MIN_VALUE;
+        List<Long> ids;
+        do {
+            ids = bookRepository.findIdsFrom(fromId, Limit.of(deleteChunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            final var rangeFrom = ids.getFirst();
+            final var rangeTo = ids.getLast();
+            final var firstDeletion = deleted == 0;
+            final int rangeDeleted = transactionTemplate.execute(status -> {
+                final var count = bookRepository.deleteByIdRange(rangeFrom, rangeTo);
+                if (count > 0 && firstDeletion) {
+                    bookChangeEventRepository.save(BookChangeEvent.of(BookChangeType.PURGED, null));
+                }
+                return count;
+            });
+            if (rangeDeleted > 0) {
+                bookSearchIndex.removeRange(rangeFrom, rangeTo);
+                deleted += rangeDeleted;
+            }
+            fromId = rangeTo + 1;
+            // A short chunk was the last one; fromId wraps to MIN_VALUE only after a chunk ending at Long.MAX_VALUE
+        } while (ids.size() == deleteChunkSize && fromId != Long.MIN_VALUE);
+        return deleted;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id")
+    @Transactional
     public Book deleteBookById(final Long id) {
         final var book = getBookById(id);
         bookRepository.deleteById(id);
+        bookChangeEventRepository.save(BookChangeEvent.of(BookChangeType.DELETED, id));
+        afterCommit(() -> bookSearchIndex.remove(id));
         return book;
     }
 
+    @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#result.id", unless = "#result == null")
+    @Transactional
     public Book addBook(final BookDTO bookDTO) {
         if (bookDTO != null) {
-            final var book = new Book();
-            book.setTitle(bookDTO.title());
-            book.setAuthor(bookDTO.author());
-            book.setPrice(bookDTO.price());
-            return bookRepository.save(book);
+            final var book = bookRepository.save(toBook(bookDTO));
+            bookChangeEventRepository.save(BookChangeEvent.of(BookChangeType.CREATED, book.getId()));
+            afterCommit(() -> bookSearchIndex.index(book));
+            return book;
         }
         return null;
     }
 
+    // New ids cannot be cached yet, so bulk inserts leave the cache alone instead of flooding it
+    // Each chunk commits in its own transaction and is written with JDBC batching
     public List<Book> addBooks(final List<BookDTO> booksDTO) {
         if (booksDTO != null) {
-            return bookRepository.saveAll(booksDTO.stream().map(bookDTO -> {
-                final var book = new Book();
-                book.setTitle(bookDTO.title());
-                book.setAuthor(bookDTO.author());
-                book.setPrice(bookDTO.price());
-                return book;
-            }).toList());
+            final var books = new ArrayList<Book>(booksDTO.size());
+            for (var from = 0; from < booksDTO.size(); from += importChunkSize) {
+                final var chunk = booksDTO.subList(from, Math.min(from + importChunkSize, booksDTO.size()));
+                final var saved = transactionTemplate.execute(status -> saveChunk(chunk));
+                bookSearchIndex.indexAll(saved);
+                books.addAll(saved);
+            }
+            return books;
         }
         return null;
     }
 
+    // Streams a JSON array and validates each BookDTO as it is parsed, so a bad record is found without first
+    // materialising the whole payload. FAIL_FAST writes in one transaction and indexes only after it commits;
+    // COLLECT commits and indexes chunk by chunk like addBooks, then reports every rejected index
+    public BookCreateSummaryDTO addBooks(final InputStream inputStream, final BulkValidationMode mode) {
+        return addBooks(inputStream, mode, objectMapper);
+    }
+
+    // Same as above for a body in any Jackson format; reader is the mapper for the request's format (JSON, Smile, CBOR)
+    public BookCreateSummaryDTO addBooks(final InputStream inputStream, final BulkValidationMode mode, final ObjectMapper reader) {
+        if (mode == BulkValidationMode.FAIL_FAST) {
+            final var saved = new ArrayList<Book>();
+            final var created = transactionTemplate.execute(status -> streamBooks(inputStream, mode, reader, saved::addAll));
+            bookSearchIndex.indexAll(saved);
+            return new BookCreateSummaryDTO(created);
+        }
+        return new BookCreateSummaryDTO(streamBooks(inputStream, mode, reader, bookSearchIndex::indexAll));
+    }
+
+    @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id", unless = "#result == null")
+    @Transactional
     public Book updateBook(final Long id, final BookDTO bookDTO) {
         if (bookDTO != null) {
             final var updatedBook = getBookById(id);
             updatedBook.setTitle(bookDTO.title());
             updatedBook.setAuthor(bookDTO.author());
             updatedBook.setPrice(bookDTO.price());
-            return bookRepository.save(updatedBook);
+            final var book = bookRepository.save(updatedBook);
+            bookChangeEventRepository.save(BookChangeEvent.of(BookChangeType.UPDATED, id));
+            afterCommit(() -> bookSearchIndex.index(book));
+            return book;
         }
         return null;
     }
+
+    // Applies a mixed list of writes grouped by type: creates, then updates, then deletes, each group in chunks of
+    // importChunkSize that commit on their own. Invalid operations and misses are reported per operation instead of
+    // failing the batch; results come back in request order
+    public List<BookBatchResultDTO> executeBatch(final List<BookBatchOperationDTO> operations) {
+        if (operations.size() > maxBatchOperations) {
+            throw new BookValidationException("Batch of " + operations.size() + " operations exceeds the limit of " + maxBatchOperations, List.of());
+        }
+        final var results = new BookBatchResultDTO[operations.size()];
+        final var creates = new ArrayList<Integer>();
+        final var updates = new ArrayList<Integer>();
+        final var deletes = new ArrayList<Integer>();
+        // Grouping reorders operations, so a book may only be updated or deleted once per batch
+        final var targetedIds = new HashSet<Long>();
+        for (var i = 0; i < operations.size(); i++) {
+            final var operation = operations.get(i);
+            final var errors = batchErrors(operation);
+            if (!errors.isEmpty()) {
+                results[i] = batchFailure(i, operation, HttpStatus.BAD_REQUEST, errors);
+            } else if (operation.type() == BookBatchOperationType.CREATE) {
+                creates.add(i);
+            } else if (!targetedIds.add(operation.id())) {
+                results[i] = batchFailure(i, operation, HttpStatus.CONFLICT, List.of("id: already targeted by an earlier operation in this batch"));
+            } else if (operation.type() == BookBatchOperationType.UPDATE) {
+                updates.add(i);
+            } else {
+                deletes.add(i);
+            }
+        }
+        final var cache = cacheManager.getCache(CacheConfig.BOOKS_CACHE);
+
+        for (var from = 0; from < creates.size(); from += importChunkSize) {
+            final var chunk = creates.subList(from, Math.min(from + importChunkSize, creates.size()));
+            final var saved = transactionTemplate.execute(status -> saveChunk(chunk.stream().map(i -> operations.get(i).book()).toList()));
+            bookSearchIndex.indexAll(saved);
+            for (var j = 0; j < chunk.size(); j++) {
+                final var book = saved.get(j);
+                results[chunk.get(j)] = new BookBatchResultDTO(chunk.get(j), BookBatchOperationType.CREATE, book.getId(), HttpStatus.CREATED.value(), book, null);
+            }
+        }
+
+        for (var from = 0; from < updates.size(); from += importChunkSize) {
+            final var chunk = updates.subList(from, Math.min(from + importChunkSize, updates.size()));
+            final var updated = transactionTemplate.execute(status -> updateChunk(chunk.stream().map(operations::get).toList()));
+            bookSearchIndex.indexAll(updated.values());
+            for (final var i : chunk) {
+                final var book = updated.get(operations.get(i).id());
+                if (book != null) {
+                    if (cache != null) {
+                        cache.put(book.getId(), book);
+                    }
+                    results[i] = new BookBatchResultDTO(i, BookBatchOperationType.UPDATE, book.getId(), HttpStatus.OK.value(), book, null);
+                } else {
+                    results[i] = batchNotFound(i, operations.get(i));
+                }
+            }
+        }
+
+        for (var from = 0; from < deletes.size(); from += importChunkSize) {
+            final var chunk = deletes.subList(from, Math.min(from + importChunkSize, deletes.size()));
+            final var deleted = new HashSet<>(transactionTemplate.execute(status -> deleteChunk(chunk.stream().map(i -> operations.get(i).id()).toList())));
+            for (final var i : chunk) {
+                final var id = operations.get(i).id();
+                if (deleted.contains(id)) {
+                    bookSearchIndex.remove(id);
+                    if (cache != null) {
+                        cache.evict(id);
+                    }
+                    results[i] = new BookBatchResultDTO(i, BookBatchOperationType.DELETE, id, HttpStatus.OK.value(), null, null);
+                } else {
+                    results[i] = batchNotFound(i, operations.get(i));
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private long streamBooks(final InputStream inputStream, final BulkValidationMode mode, final ObjectMapper reader,
+                             final Consumer<List<Book>> onSaved) {
+        final var chunk = new ArrayList<BookDTO>(importChunkSize);
+        final var errors = new ArrayList<String>();
+        var index = 0L;
+        var created = 0L;
+        var rejected = 0L;
+        try (final var parser = reader.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BookValidationException("Request body must be an array of books", List.of());
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BookValidationException("Malformed payload at index " + index + ": unexpected end of input", List.of());
+                }
+                final var bookDTO = parser.readValueAs(BookDTO.class);
+                final var violations = validator.validate(bookDTO);
+                if (violations.isEmpty()) {
+                    chunk.add(bookDTO);
+                    if (chunk.size() == importChunkSize) {
+                        created += saveStreamedChunk(chunk, onSaved);
+                    }
+                } else {
+                    final var prefix = "[" + index + "].";
+                    final var indexErrors = violations.stream()
+                            .map(violation -> prefix + violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .toList();
+                    if (mode == BulkValidationMode.FAIL_FAST) {
+                        throw new BookValidationException("Validation failed at index " + index, indexErrors);
+                    }
+                    rejected++;
+                    // One book can carry several violations; only as many as still fit under the cap are kept
+                    errors.addAll(indexErrors.subList(0, Math.min(indexErrors.size(), Math.max(maxValidationErrors - errors.size(), 0))));
+                }
+                index++;
+            }
+            created += saveStreamedChunk(chunk, onSaved);
+        } catch (final JsonProcessingException e) {
+            throw new BookValidationException("Malformed payload at index " + index + ": " + e.getOriginalMessage(), List.of());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (rejected > 0) {
+            throw new BookValidationException("Validation failed for " + rejected + " of " + index + " books, " + created + " created", errors);
+        }
+        return created;
+    }
+
+    // Joins the FAIL_FAST transaction when there is one, otherwise commits the chunk on its own
+    private int saveStreamedChunk(final List<BookDTO> chunk, final Consumer<List<Book>> onSaved) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        final var saved = transactionTemplate.execute(status -> saveChunk(chunk));
+        onSaved.accept(saved);
+        chunk.clear();
+        return saved.size();
+    }
+
+    private List<Book> saveChunk(final List<BookDTO> booksDTO) {
+        final var books = bookRepository.saveAll(booksDTO.stream().map(BookService::toBook).toList());
+        recordChanges(BookChangeType.CREATED, books.stream().map(Book::getId).toList());
+        // Flush the batched inserts now and drop the managed copies so the persistence context stays small
+        entityManager.flush();
+        entityManager.clear();
+        return books;
+    }
+
+    // One select for the whole chunk instead of a read per update; the dirty entities then flush as batched updates
+    private Map<Long, Book> updateChunk(final List<BookBatchOperationDTO> operations) {
+        final var books = new HashMap<Long, Book>();
+        bookRepository.findAllById(operations.stream().map(BookBatchOperationDTO::id).toList())
+                .forEach(book -> books.put(book.getId(), book));
+        for (final var operation : operations) {
+            final var book = books.get(operation.id());
+            if (book != null) {
+                book.setTitle(operation.book().title());
+                book.setAuthor(operation.book().author());
+                book.setPrice(operation.book().price());
+            }
+        }
+        recordChanges(BookChangeType.UPDATED, books.keySet());
+        entityManager.flush();
+        entityManager.clear();
+        return books;
+    }
+
+    // Looks up which ids exist, then removes them with a single delete ... where id in (...) statement
+    private List<Long> deleteChunk(final List<Long> ids) {
+        final var existing = bookRepository.findExistingIds(ids);
+        if (!existing.isEmpty()) {
+            bookRepository.deleteAllByIdInBatch(existing);
+            recordChanges(BookChangeType.DELETED, existing);
+        }
+        return existing;
+    }
+
+    private List<String> batchErrors(final BookBatchOperationDTO operation) {
+        if (operation == null || operation.type() == null) {
+            return List.of("type: must not be null");
+        }
+        final var errors = new ArrayList<String>();
+        if (operation.type() != BookBatchOperationType.CREATE && operation.id() == null) {
+            errors.add("id: must not be null");
+        }
+        if (operation.type() != BookBatchOperationType.DELETE) {
+            if (operation.book() == null) {
+                errors.add("book: must not be null");
+            } else {
+                validator.validate(operation.book()).stream()
+                        .map(violation -> "book." + violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .forEach(errors::add);
+            }
+        }
+        return errors;
+    }
+
+    private static BookBatchResultDTO batchNotFound(final int index, final BookBatchOperationDTO operation) {
+        return batchFailure(index, operation, HttpStatus.NOT_FOUND, List.of("Book not found with id: " + operation.id()));
+    }
+
+    private static BookBatchResultDTO batchFailure(final int index, final BookBatchOperationDTO operation, final HttpStatus status,
+                                                   final List<String> errors) {
+        return new BookBatchResultDTO(index, operation != null ? operation.type() : null, operation != null ? operation.id() : null,
+                status.value(), null, errors);
+    }
+
+    // The search index follows committed data only: a rolled back write must not reach it
+    private static void afterCommit(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Outbox rows for the change feed, written in the caller's transaction and batched with its other inserts
+    private void recordChanges(final BookChangeType type, final Collection<Long> bookIds) {
+        bookChangeEventRepository.saveAll(bookIds.stream().map(id -> BookChangeEvent.of(type, id)).toList());
+    }
+
+    private static Book toBook(final BookDTO bookDTO) {
+        final var book = new Book();
+        book.setTitle(bookDTO.title());
+        book.setAuthor(bookDTO.author());
+        book.setPrice(bookDTO.price());
+        return book;
+    }
+
+    private int pageSize(final Integer size) {
+        return Math.min(Math.max(size != null ? size : defaultPageSize, 1), maxPageSize);
+    }
+
+    private static BookPageDTO toPage(final List<Book> books, final int pageSize) {
+        return books.size() > pageSize
+                ? new BookPageDTO(books.subList(0, pageSize), encodeCursor(books.get(pageSize - 1).getId()), pageSize)
+                : new BookPageDTO(books, null, pageSize);
+    }
+
+    private static boolean hasCursor(final String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    private static String encodeCursor(final Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(final String cursor) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
 }
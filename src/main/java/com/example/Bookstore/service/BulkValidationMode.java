@@ -0,0 +1,9 @@
+package com.example.Bookstore.service;
+
+// How a streamed bulk create reacts to an invalid record
+public enum BulkValidationMode {
+    // Stop parsing at the first invalid record and roll back everything written so far
+    FAIL_FAST,
+    // Keep valid records, committed chunk by chunk, and report every rejected index at the end
+    COLLECT
+}
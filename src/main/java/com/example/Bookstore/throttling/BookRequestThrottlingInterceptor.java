@@ -0,0 +1,97 @@
+package com.example.Bookstore.throttling;
+
+import com.example.Bookstore.logging.SampledEventTurboFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+// Sheds load on /api/v1/books/** before it reaches the connection pool: writes pass a per-client rate limiter, then
+// reads and writes each take a permit from their own bulkhead so a burst of bulk writes cannot starve reads
+@Component
+@Slf4j
+public class BookRequestThrottlingInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String READ = "books-read";
+    public static final String WRITE = "books-write";
+
+    // bookstore.requests.shed{reason,name}: requests rejected with 429
+    static final String SHED_METER = "bookstore.requests.shed";
+
+    private static final String PERMIT_ATTRIBUTE = BookRequestThrottlingInterceptor.class.getName() + ".PERMIT";
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // One limiter per client, built from the books-write config; idle clients are dropped so the map stays bounded
+    private final Cache<String, RateLimiter> clientRateLimiters = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        // The async dispatch of a streamed response still holds the permit taken on the original dispatch
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        final var write = isWrite(request);
+        if (write) {
+            final var rateLimiter = clientRateLimiters.get(clientKey(request), client -> RateLimiter.of(WRITE + ":" + client,
+                    rateLimiterRegistry.getConfiguration(WRITE).orElseGet(rateLimiterRegistry::getDefaultConfig)));
+            if (!rateLimiter.acquirePermission()) {
+                meterRegistry.counter(SHED_METER, "reason", "rate_limit", "name", WRITE).increment();
+                log.debug(SampledEventTurboFilter.SAMPLED, "Rate limit exceeded: {} {} from {}", request.getMethod(), request.getRequestURI(), clientKey(request));
+                throw RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+            }
+        }
+        final var bulkhead = bulkheadRegistry.bulkhead(write ? WRITE : READ);
+        if (!bulkhead.tryAcquirePermission()) {
+            meterRegistry.counter(SHED_METER, "reason", "bulkhead", "name", bulkhead.getName()).increment();
+            log.debug(SampledEventTurboFilter.SAMPLED, "Bulkhead {} full: {} {}", bulkhead.getName(), request.getMethod(), request.getRequestURI());
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler, final Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkhead.onComplete();
+        }
+    }
+
+    private static boolean isWrite(final HttpServletRequest request) {
+        final var method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    // Authenticated principal when there is one, otherwise the remote address (set server.forward-headers-strategy
+    // behind a proxy so this is the real client)
+    private static String clientKey(final HttpServletRequest request) {
+        final var principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : request.getRemoteAddr();
+    }
+}
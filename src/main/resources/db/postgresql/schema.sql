@@ -0,0 +1,33 @@
+-- PostgreSQL schema for the prod profile (spring.jpa.hibernate.ddl-auto=none). Idempotent, so it can be applied on
+-- every deployment or used as the baseline migration.
+
+-- Matches @SequenceGenerator(allocationSize = 100) on Book.id
+create sequence if not exists book_seq start with 1 increment by 100;
+
+create table if not exists book (
+    id            bigint         not null primary key,
+    title         varchar(255),
+    author        varchar(255),
+    price         numeric(38, 2),
+    title_key     varchar(255),
+    author_key    varchar(255),
+    version       bigint,
+    last_modified timestamp(6) with time zone
+);
+
+-- varchar_pattern_ops lets "like 'prefix%'" use the index under any database collation, not just "C"
+create index if not exists idx_book_title_key on book (title_key varchar_pattern_ops);
+create index if not exists idx_book_author_key on book (author_key varchar_pattern_ops);
+create index if not exists idx_book_price on book (price);
+
+-- Change feed outbox; matches @SequenceGenerator(allocationSize = 100) on BookChangeEvent.id
+create sequence if not exists book_change_event_seq start with 1 increment by 100;
+
+create table if not exists book_change_event (
+    id          bigint      not null primary key,
+    -- Unique index serves both the relay (sequence is null) and resuming subscribers (sequence > ?)
+    sequence    bigint      unique,
+    type        varchar(16),
+    book_id     bigint,
+    occurred_at timestamp(6) with time zone
+);
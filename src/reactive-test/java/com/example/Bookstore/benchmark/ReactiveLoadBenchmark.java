@@ -0,0 +1,41 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.reactive.ReactiveBookstoreApplication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+// The MVC load test against the WebFlux + R2DBC application; compare with PlatformThreadLoadBenchmark and
+// VirtualThreadLoadBenchmark at the same -Dbenchmark.concurrency (e.g. 10000). Needs -Preactive
+@SpringBootTest(classes = ReactiveBookstoreApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.config.name=" + ReactiveBookstoreApplication.CONFIG_NAME, "spring.main.web-application-type=reactive"})
+public class ReactiveLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Override
+    protected String mode() {
+        return "webflux-r2dbc";
+    }
+
+    // Same rows as BenchmarkData.seedBooks, generated inside H2 in one statement
+    @Override
+    protected void seed(final int rows) {
+        final var existing = databaseClient.sql("select count(*) from book where id >= :first").bind("first", FIRST_ID)
+                .map(row -> row.get(0, Long.class)).one().block();
+        if (existing == null || existing < rows) {
+            databaseClient.sql("delete from book where id >= :first").bind("first", FIRST_ID).then().block();
+            databaseClient.sql("insert into book (id, title, author, price, title_key, author_key, version, last_modified) "
+                            + "select x, 'Benchmark Title ' || x, 'Author ' || mod(x, 1000), mod(x, 10000) / 100.0, "
+                            + "'benchmark title ' || x, 'author ' || mod(x, 1000), 0, current_timestamp "
+                            + "from system_range(:first, :last)")
+                    .bind("first", FIRST_ID)
+                    .bind("last", FIRST_ID + rows - 1)
+                    .then()
+                    .block();
+        }
+    }
+}
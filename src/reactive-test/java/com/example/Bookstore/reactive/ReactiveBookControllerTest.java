@@ -0,0 +1,150 @@
+package com.example.Bookstore.reactive;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookPageDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ReactiveBookstoreApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.config.name=" + ReactiveBookstoreApplication.CONFIG_NAME, "spring.main.web-application-type=reactive"})
+public class ReactiveBookControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    public void addBook_thenGetById_returnsBookWithETag() {
+        final var created = create(new BookDTO("Reactive Systems", "Jonas Boner", new BigDecimal("42.50")));
+
+        webTestClient.get().uri("/api/v1/books/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"" + created.getId() + "-0\"")
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive Systems")
+                .jsonPath("$.price").isEqualTo(42.5);
+    }
+
+    @Test
+    public void addBook_whenInvalid_returns400WithValidationErrors() {
+        webTestClient.post().uri("/api/v1/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookDTO("Short", "Jonas Boner", BigDecimal.ONE))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.validationErrors[0]").value(error -> assertTrue(error.toString().startsWith("title: ")));
+    }
+
+    @Test
+    public void addBooks_whenOneInvalid_rejectsAllWithIndexedErrors() {
+        webTestClient.post().uri("/api/v1/books/all")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(new BookDTO("Reactive Bulk Valid", "Bulk Author", BigDecimal.TEN), new BookDTO("Reactive Bulk Valid", "X", BigDecimal.TEN)))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.validationErrors[0]").value(error -> assertTrue(error.toString().startsWith("[1].author: ")));
+
+        webTestClient.get().uri("/api/v1/books/search?title=reactive bulk")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.books.length()").isEqualTo(0);
+    }
+
+    @Test
+    public void searchBooks_pagesByCursor() {
+        webTestClient.post().uri("/api/v1/books/all")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new BookDTO("Paged Reactive One", "Page Author", new BigDecimal("5.00")),
+                        new BookDTO("Paged Reactive Two", "Page Author", new BigDecimal("6.00")),
+                        new BookDTO("Paged Reactive Three", "Page Author", new BigDecimal("7.00"))))
+                .exchange()
+                .expectStatus().isCreated();
+
+        final var first = search("/api/v1/books/search?author=PAGE auth&size=2");
+        assertEquals(2, first.books().size());
+        assertNotNull(first.nextCursor());
+
+        final var second = search("/api/v1/books/search?author=page auth&size=2&cursor=" + first.nextCursor());
+        assertEquals(1, second.books().size());
+        assertEquals("Paged Reactive Three", second.books().get(0).getTitle());
+    }
+
+    @Test
+    public void getBookById_whenNotFound_returns404() {
+        webTestClient.get().uri("/api/v1/books/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Book not found with id: " + Long.MAX_VALUE);
+    }
+
+    @Test
+    public void updateBook_thenDelete_bumpsVersionAndRemovesBook() {
+        final var created = create(new BookDTO("Reactive Update Me", "Update Author", BigDecimal.ONE));
+
+        webTestClient.put().uri("/api/v1/books/{id}", created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookDTO("Reactive Updated", "Update Author", BigDecimal.TEN))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive Updated")
+                .jsonPath("$.version").isEqualTo(1);
+
+        webTestClient.delete().uri("/api/v1/books/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/v1/books/{id}", created.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // Each write left an outbox row for the MVC relay to number
+        final var changes = databaseClient.sql("select type from book_change_event where book_id = :id order by id")
+                .bind("id", created.getId())
+                .map(row -> row.get("type", String.class))
+                .all()
+                .collectList()
+                .block();
+        assertEquals(List.of("CREATED", "UPDATED", "DELETED"), changes);
+    }
+
+    private Book create(final BookDTO bookDTO) {
+        return webTestClient.post().uri("/api/v1/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookDTO)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Book.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private BookPageDTO search(final String uri) {
+        return webTestClient.get().uri(uri)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BookPageDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.Bookstore.reactive;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// The read/write subset of BookController's /api/v1/books contract: same paths, parameters, payloads and status codes.
+// Catalogue ETags, export, imports, full-text search and bulk delete stay MVC-only
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookController {
+
+    @Autowired
+    private ReactiveBookService reactiveBookService;
+
+    @GetMapping(value = "/books", produces = "application/json")
+    public Mono<ResponseEntity<?>> getBooks(@RequestParam(required = false) final String cursor, @RequestParam(required = false) final Integer size) {
+        if (cursor != null || size != null) {
+            return reactiveBookService.getBooksPage(cursor, size).map(ResponseEntity::ok);
+        }
+        return reactiveBookService.getBooks().collectList()
+                .map(books -> !books.isEmpty()
+                        ? ResponseEntity.ok(books)
+                        : ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/books/search", produces = "application/json")
+    public Mono<ResponseEntity<?>> searchBooks(@RequestParam(required = false) final String title,
+                                               @RequestParam(required = false) final String author,
+                                               @RequestParam(required = false) final BigDecimal minPrice,
+                                               @RequestParam(required = false) final BigDecimal maxPrice,
+                                               @RequestParam(required = false) final String cursor,
+                                               @RequestParam(required = false) final Integer size) {
+        return reactiveBookService.searchBooks(title, author, minPrice, maxPrice, cursor, size).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/books/{id}", produces = "application/json")
+    public Mono<ResponseEntity<?>> getBookById(@PathVariable final Long id) {
+        return reactiveBookService.getBookById(id)
+                .map(book -> ResponseEntity.ok().eTag(etag(book)).lastModified(book.getLastModified()).body(book));
+    }
+
+    @DeleteMapping(value = "/books/{id}", produces = "application/json")
+    public Mono<ResponseEntity<?>> deleteBookById(@PathVariable final Long id) {
+        return reactiveBookService.deleteBookById(id).map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/books", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<?>> addBook(@Valid @RequestBody final BookDTO bookDTO) {
+        return reactiveBookService.addBook(bookDTO).map(book -> ResponseEntity.status(HttpStatus.CREATED).body(book));
+    }
+
+    @PostMapping(value = "/books/all", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<?>> addBooks(@RequestBody final List<BookDTO> booksDTO) {
+        return reactiveBookService.addBooks(booksDTO).collectList().map(books -> ResponseEntity.status(HttpStatus.CREATED).body(books));
+    }
+
+    @PutMapping(value = "/books/{id}", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<?>> updateBook(@PathVariable final Long id, @Valid @RequestBody final BookDTO bookDTO) {
+        return reactiveBookService.updateBook(id, bookDTO).map(ResponseEntity::ok);
+    }
+
+    private static String etag(final Book book) {
+        return "\"" + book.getId() + "-" + (book.getVersion() != null ? book.getVersion() : 0L) + "\"";
+    }
+}
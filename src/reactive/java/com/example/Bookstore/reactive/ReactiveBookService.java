@@ -0,0 +1,230 @@
+package com.example.Bookstore.reactive;
+
+import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.exception.InvalidCursorException;
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.model.BookChangeType;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookPageDTO;
+import io.r2dbc.spi.Readable;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+// Same contract as BookService (keyset pages, case-insensitive prefix search on the *_key columns, optimistic
+// version) on a non-blocking R2DBC connection pool. No Spring cache or search index: reads go to the database
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveBookService {
+
+    private static final String COLUMNS = "id, title, author, price, version, last_modified";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${bookstore.books.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${bookstore.books.page.max-size:100}")
+    private int maxPageSize;
+
+    public Flux<Book> getBooks() {
+        return databaseClient.sql("select " + COLUMNS + " from book order by id").map(ReactiveBookService::toBook).all();
+    }
+
+    public Mono<BookPageDTO> getBooksPage(final String cursor, final Integer size) {
+        return searchBooks(null, null, null, null, cursor, size);
+    }
+
+    public Mono<BookPageDTO> searchBooks(final String title, final String author, final BigDecimal minPrice, final BigDecimal maxPrice,
+                                         final String cursor, final Integer size) {
+        return Mono.defer(() -> {
+            final var pageSize = pageSize(size);
+            final var where = new ArrayList<String>();
+            final var params = new LinkedHashMap<String, Object>();
+            if (title != null && !title.isBlank()) {
+                where.add("title_key like :title escape '\\'");
+                params.put("title", likePrefix(title));
+            }
+            if (author != null && !author.isBlank()) {
+                where.add("author_key like :author escape '\\'");
+                params.put("author", likePrefix(author));
+            }
+            if (minPrice != null) {
+                where.add("price >= :minPrice");
+                params.put("minPrice", minPrice);
+            }
+            if (maxPrice != null) {
+                where.add("price <= :maxPrice");
+                params.put("maxPrice", maxPrice);
+            }
+            if (cursor != null && !cursor.isBlank()) {
+                where.add("id > :after");
+                params.put("after", decodeCursor(cursor));
+            }
+            // One extra row tells whether another page exists without a count query
+            final var sql = "select " + COLUMNS + " from book" + (where.isEmpty() ? "" : " where " + String.join(" and ", where))
+                    + " order by id limit " + (pageSize + 1);
+            return databaseClient.sql(sql).bindValues(params).map(ReactiveBookService::toBook).all()
+                    .collectList()
+                    .map(books -> toPage(books, pageSize));
+        });
+    }
+
+    public Mono<Book> getBookById(final Long id) {
+        return databaseClient.sql("select " + COLUMNS + " from book where id = :id")
+                .bind("id", id)
+                .map(ReactiveBookService::toBook)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)));
+    }
+
+    public Mono<Book> addBook(final BookDTO bookDTO) {
+        return insert(bookDTO).as(transactionalOperator::transactional);
+    }
+
+    // Validates every record up front like the MVC endpoint, then inserts them in one transaction
+    public Flux<Book> addBooks(final List<BookDTO> booksDTO) {
+        return Flux.defer(() -> {
+            final var errors = new ArrayList<String>();
+            for (var i = 0; i < booksDTO.size(); i++) {
+                final var index = i;
+                validator.validate(booksDTO.get(i)).forEach(violation ->
+                        errors.add("[" + index + "]." + violation.getPropertyPath() + ": " + violation.getMessage()));
+            }
+            if (!errors.isEmpty()) {
+                return Flux.error(new BookValidationException("Validation failed", errors));
+            }
+            return Flux.fromIterable(booksDTO).concatMap(this::insert).as(transactionalOperator::transactional);
+        });
+    }
+
+    public Mono<Book> updateBook(final Long id, final BookDTO bookDTO) {
+        final var update = databaseClient.sql("update book set title = :title, author = :author, price = :price, title_key = :titleKey, "
+                + "author_key = :authorKey, version = version + 1, last_modified = :lastModified where id = :id");
+        return bindPrice(update, bookDTO.price())
+                .bind("id", id)
+                .bind("title", bookDTO.title())
+                .bind("author", bookDTO.author())
+                .bind("titleKey", Book.searchKey(bookDTO.title()))
+                .bind("authorKey", Book.searchKey(bookDTO.author()))
+                .bind("lastModified", Instant.now())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0 ? Mono.error(new BookNotFoundException(id)) : getBookById(id))
+                .flatMap(book -> recordChange(BookChangeType.UPDATED, id).thenReturn(book))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Book> deleteBookById(final Long id) {
+        return getBookById(id)
+                .flatMap(book -> databaseClient.sql("delete from book where id = :id").bind("id", id).fetch().rowsUpdated()
+                        .then(recordChange(BookChangeType.DELETED, id))
+                        .thenReturn(book))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<Book> insert(final BookDTO bookDTO) {
+        final var book = new Book();
+        book.setTitle(bookDTO.title());
+        book.setAuthor(bookDTO.author());
+        book.setPrice(bookDTO.price());
+        book.setVersion(0L);
+        book.setLastModified(Instant.now());
+        // Each id is one whole nextval of book_seq. The JPA side hands out the 100 ids ending at each value it draws, and
+        // draws are 100 apart, so the two applications never collide on a shared database
+        final var insert = databaseClient.sql("insert into book (id, title, author, price, title_key, author_key, version, last_modified) "
+                + "values (nextval('book_seq'), :title, :author, :price, :titleKey, :authorKey, :version, :lastModified)");
+        return bindPrice(insert, book.getPrice())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("title", book.getTitle())
+                .bind("author", book.getAuthor())
+                .bind("titleKey", Book.searchKey(book.getTitle()))
+                .bind("authorKey", Book.searchKey(book.getAuthor()))
+                .bind("version", book.getVersion())
+                .bind("lastModified", book.getLastModified())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> {
+                    book.setId(id);
+                    return recordChange(BookChangeType.CREATED, id).thenReturn(book);
+                });
+    }
+
+    // Outbox row in the caller's transaction, numbered later by the relay of the MVC instances sharing the database.
+    // Ids are whole nextvals of book_change_event_seq, like book ids are of book_seq
+    private Mono<Long> recordChange(final BookChangeType type, final Long bookId) {
+        return databaseClient.sql("insert into book_change_event (id, type, book_id, occurred_at) "
+                        + "values (nextval('book_change_event_seq'), :type, :bookId, :occurredAt)")
+                .bind("type", type.name())
+                .bind("bookId", bookId)
+                .bind("occurredAt", Instant.now())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Price is the one optional column; R2DBC needs the type to bind a null
+    private static DatabaseClient.GenericExecuteSpec bindPrice(final DatabaseClient.GenericExecuteSpec spec, final BigDecimal price) {
+        return price != null ? spec.bind("price", price) : spec.bindNull("price", BigDecimal.class);
+    }
+
+    private int pageSize(final Integer size) {
+        return Math.min(Math.max(size != null ? size : defaultPageSize, 1), maxPageSize);
+    }
+
+    private static Book toBook(final Readable row) {
+        final var book = new Book();
+        book.setId(row.get("id", Long.class));
+        book.setTitle(row.get("title", String.class));
+        book.setAuthor(row.get("author", String.class));
+        book.setPrice(row.get("price", BigDecimal.class));
+        book.setVersion(row.get("version", Long.class));
+        book.setLastModified(row.get("last_modified", Instant.class));
+        return book;
+    }
+
+    private static BookPageDTO toPage(final List<Book> books, final int pageSize) {
+        return books.size() > pageSize
+                ? new BookPageDTO(books.subList(0, pageSize), encodeCursor(books.get(pageSize - 1).getId()), pageSize)
+                : new BookPageDTO(books, null, pageSize);
+    }
+
+    private static String likePrefix(final String prefix) {
+        return Book.searchKey(prefix).replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static String encodeCursor(final Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(final String cursor) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.Bookstore.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+// WebFlux + R2DBC entry point. Reads reactive.properties instead of application.properties and leaves out the JDBC/JPA
+// stack that shares the classpath with the MVC application
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookstoreApplication {
+
+	public static final String CONFIG_NAME = "reactive";
+
+	public static void main(final String[] args) {
+		application().run(args);
+	}
+
+	public static SpringApplication application() {
+		final var application = new SpringApplication(ReactiveBookstoreApplication.class);
+		application.setWebApplicationType(WebApplicationType.REACTIVE);
+		application.setDefaultProperties(Map.of("spring.config.name", CONFIG_NAME));
+		return application;
+	}
+
+	// Tomcat is also on the classpath and would otherwise win; Netty serves every connection from its event loop
+	@Bean
+	public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+}
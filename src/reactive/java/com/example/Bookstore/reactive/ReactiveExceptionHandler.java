@@ -0,0 +1,63 @@
+package com.example.Bookstore.reactive;
+
+import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.exception.InvalidCursorException;
+import com.example.Bookstore.payload.ApiErrorDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Same ApiErrorDTO bodies and status codes as GlobalRestExceptionHandler for the exceptions the reactive API raises
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(BookNotFoundException.class)
+    public ResponseEntity<?> handleBookNotFound(final BookNotFoundException ex, final ServerWebExchange exchange) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), null, exchange);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursor(final InvalidCursorException ex, final ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), null, exchange);
+    }
+
+    @ExceptionHandler(BookValidationException.class)
+    public ResponseEntity<?> handleBookValidation(final BookValidationException ex, final ServerWebExchange exchange) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), ex.getValidationErrors(), exchange);
+    }
+
+    // @Valid failures on a request body, reported as "field: message" like the MVC handler
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<?> handleBindException(final WebExchangeBindException ex, final ServerWebExchange exchange) {
+        final var validationErrors = ex.getBindingResult().getFieldErrors()
+                .stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+        return error(HttpStatus.BAD_REQUEST, "Validation failed", validationErrors, exchange);
+    }
+
+    private static ResponseEntity<?> error(final HttpStatus status, final String message, final List<String> validationErrors,
+                                           final ServerWebExchange exchange) {
+        final var apiError = new ApiErrorDTO(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                exchange.getRequest().getPath().value(),
+                validationErrors
+        );
+        log.debug("Exception: {}", apiError);
+        return ResponseEntity.status(status).body(apiError);
+    }
+}
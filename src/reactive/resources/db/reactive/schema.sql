@@ -0,0 +1,31 @@
+-- Book table for the reactive application on H2: the same sequence and columns as db/postgresql/schema.sql, so ids
+-- come from book_seq on both sides and the reactive and MVC applications can share one PostgreSQL database. Against
+-- PostgreSQL apply db/postgresql/schema.sql instead (it adds PostgreSQL-only index operator classes).
+create sequence if not exists book_seq start with 1 increment by 100;
+
+create table if not exists book (
+    id            bigint         not null primary key,
+    title         varchar(255),
+    author        varchar(255),
+    price         numeric(38, 2),
+    title_key     varchar(255),
+    author_key    varchar(255),
+    version       bigint,
+    last_modified timestamp(6) with time zone
+);
+
+create index if not exists idx_book_title_key on book (title_key);
+create index if not exists idx_book_author_key on book (author_key);
+create index if not exists idx_book_price on book (price);
+
+-- Change feed outbox, written in the same transaction as every reactive write so MVC instances on the same database
+-- relay it to subscribers and move their catalogue ETag
+create sequence if not exists book_change_event_seq start with 1 increment by 100;
+
+create table if not exists book_change_event (
+    id          bigint      not null primary key,
+    sequence    bigint      unique,
+    type        varchar(16),
+    book_id     bigint,
+    occurred_at timestamp(6) with time zone
+);
@@ -0,0 +1,57 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.repository.BookRepository;
+import com.example.Bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Rows per second through BookService.addBooks for growing payloads; subclasses pick the database
+@Tag("benchmark")
+abstract class AbstractBookBulkInsertBenchmark {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    public void setUp() {
+        bookRepository.deleteAllInBatch();
+        // Warm up the insert path so the first measured size does not pay for class loading and JIT
+        bookService.addBooks(payload(1_000));
+        bookRepository.deleteAllInBatch();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    public void addBooks_rowsPerSecond(final int rows) {
+        final var payload = payload(rows);
+
+        final var start = System.nanoTime();
+        final var books = bookService.addBooks(payload);
+        final var elapsedNanos = System.nanoTime() - start;
+
+        assertEquals(rows, books.size());
+        System.out.printf("%s rows=%,d time=%,d ms throughput=%,.0f rows/s%n",
+                database(), rows, elapsedNanos / 1_000_000, rows * 1_000_000_000d / elapsedNanos);
+    }
+
+    protected abstract String database();
+
+    private static List<BookDTO> payload(final int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new BookDTO("Benchmark Title " + i, "Author " + (i % 1_000), BigDecimal.valueOf(i % 10_000, 2)))
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.repository.BookRepository;
+import com.example.Bookstore.service.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Database round-trips for a read-heavy mix (90% reads, 10% updates) over a hot set of books; subclasses toggle the
+// Hibernate second-level and query caches. Entity loads go through the repository so the Spring books cache in front of
+// BookService.getBookById does not hide the difference.
+@Tag("benchmark")
+abstract class AbstractBookReadMixBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int OPERATIONS = Integer.getInteger("benchmark.operations", 20_000);
+    private static final int HOT_BOOKS = 200;
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        BenchmarkData.ensureBooks(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    public void readMix_databaseRoundTrips() {
+        runMix(OPERATIONS / 10);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var start = System.nanoTime();
+        runMix(OPERATIONS);
+        final var elapsedNanos = System.nanoTime() - start;
+
+        final var statements = statistics.getPrepareStatementCount();
+        assertTrue(statements > 0);
+        System.out.printf("%s operations=%,d statements=%,d statements/op=%.2f time=%,d ms l2 hits=%,d misses=%,d query cache hits=%,d misses=%,d%n",
+                mode(), OPERATIONS, statements, (double) statements / OPERATIONS, elapsedNanos / 1_000_000,
+                statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(),
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount());
+    }
+
+    protected abstract String mode();
+
+    private void runMix(final int operations) {
+        final var random = new Random(42);
+        for (var i = 0; i < operations; i++) {
+            final var id = FIRST_ID + random.nextInt(HOT_BOOKS);
+            switch (i % 10) {
+                case 9 -> bookService.updateBook(id, new BookDTO("Benchmark Title " + id, "Author " + (id % 1_000), BigDecimal.valueOf(i % 10_000, 2)));
+                case 0, 1 -> bookService.getBooksPage(null, 20);
+                case 2, 3 -> bookService.searchBooks("benchmark title 100001", null, null, null, null, 20);
+                default -> bookRepository.findById(id);
+            }
+        }
+    }
+}
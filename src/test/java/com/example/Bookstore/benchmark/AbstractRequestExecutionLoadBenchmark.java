@@ -0,0 +1,117 @@
+package com.example.Bookstore.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Closed-loop load test of database-backed endpoints; subclasses choose the request execution mode or configuration.
+// The read bulkhead is opened up so the run measures request execution rather than load shedding
+@Tag("benchmark")
+@TestPropertySource(properties = "resilience4j.bulkhead.instances.books-read.max-concurrent-calls=100000")
+abstract class AbstractRequestExecutionLoadBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+
+    private static final List<String> PATHS = List.of(
+            "/api/v1/books?size=20",
+            "/api/v1/books/search?author=author%2012&size=20",
+            "/api/v1/books/search?minPrice=10.00&maxPrice=20.00&size=20");
+
+    @LocalServerPort
+    private int port;
+
+    // Absent in the reactive application, which seeds through R2DBC instead
+    @Autowired(required = false)
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired(required = false)
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        seed(ROWS);
+    }
+
+    // Seeded inside a transaction so it also commits when the pool hands out connections with auto-commit off
+    protected void seed(final int rows) {
+        transactionTemplate.executeWithoutResult(status -> BenchmarkData.ensureBooks(jdbcTemplate, rows));
+    }
+
+    @Test
+    public void throughputAndTailLatency() throws Exception {
+        // Warm-up pass at low concurrency, then the measured run
+        run(Math.min(CONCURRENCY, 16), REQUESTS / 10);
+        final var threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        final var start = System.nanoTime();
+        final var result = run(CONCURRENCY, REQUESTS);
+        final var elapsedNanos = System.nanoTime() - start;
+
+        final var latencies = result.latencies();
+        Arrays.sort(latencies);
+        System.out.printf("%s concurrency=%d requests=%d errors=%d throughput=%,.0f req/s p50=%.2f ms p99=%.2f ms peakThreads=%d%n",
+                mode(), CONCURRENCY, REQUESTS, result.errors(), REQUESTS * 1_000_000_000d / elapsedNanos,
+                latencies[latencies.length / 2] / 1e6, latencies[latencies.length * 99 / 100] / 1e6, threads.getPeakThreadCount());
+        assertEquals(0, result.errors());
+    }
+
+    protected abstract String mode();
+
+    private LoadResult run(final int concurrency, final int requests) throws Exception {
+        final var latencies = new long[requests];
+        final var next = new AtomicInteger();
+        final var errors = new AtomicInteger();
+        try (final var client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+             final var workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var futures = new ArrayList<Future<?>>(concurrency);
+            for (var worker = 0; worker < concurrency; worker++) {
+                futures.add(workers.submit(() -> {
+                    for (var i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATHS.get(i % PATHS.size()))).GET().build();
+                        final var start = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (final Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                    }
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        }
+        return new LoadResult(latencies, errors.get());
+    }
+
+    private record LoadResult(long[] latencies, int errors) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.BookstoreApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Time to first successful request for a freshly launched JVM. The jar variants need mvn -Pcds package (optionally
+// with -Paot and -Dbenchmark.startup.aot=true); they are skipped when target/cds does not exist
+@Tag("benchmark")
+public class ApplicationStartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 5);
+    private static final boolean AOT = Boolean.getBoolean("benchmark.startup.aot");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Path CDS_DIR = Path.of("target", "cds");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    public void classpath() throws Exception {
+        measure("classpath", List.of("-cp", System.getProperty("java.class.path")), BookstoreApplication.class.getName(), List.of());
+    }
+
+    @Test
+    public void classpathLazyInitialization() throws Exception {
+        measure("classpath lazy-init", List.of("-cp", System.getProperty("java.class.path")), BookstoreApplication.class.getName(),
+                List.of("--spring.main.lazy-initialization=true"));
+    }
+
+    @Test
+    public void jar() throws Exception {
+        measure("jar" + (AOT ? " aot" : ""), jvmArgs(List.of()), "-jar", List.of(extractedJar()));
+    }
+
+    @Test
+    public void jarWithCds() throws Exception {
+        final var archive = CDS_DIR.resolve("application.jsa");
+        assumeTrue(Files.exists(archive), "no CDS archive, run mvn -Pcds package");
+        measure("jar cds" + (AOT ? " aot" : ""), jvmArgs(List.of("-XX:SharedArchiveFile=" + archive)), "-jar", List.of(extractedJar()));
+    }
+
+    private void measure(final String mode, final List<String> jvmArgs, final String main, final List<String> appArgs) throws Exception {
+        final var millis = new long[RUNS];
+        for (var run = 0; run < RUNS; run++) {
+            millis[run] = timeToFirstRequest(jvmArgs, main, appArgs);
+        }
+        Arrays.sort(millis);
+        System.out.printf("%s runs=%d timeToFirstRequest median=%d ms min=%d ms max=%d ms%n",
+                mode, RUNS, millis[RUNS / 2], millis[0], millis[RUNS - 1]);
+    }
+
+    private long timeToFirstRequest(final List<String> jvmArgs, final String main, final List<String> appArgs) throws Exception {
+        final var port = freePort();
+        final var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add(main);
+        command.addAll(appArgs);
+        command.add("--server.port=" + port);
+        command.add("--logging.file.name=target/startup-benchmark.log");
+
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/books?size=1"))
+                .timeout(Duration.ofSeconds(5)).GET().build();
+        final var start = System.nanoTime();
+        final var process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                assertTrue(process.isAlive(), () -> "application exited with " + process.exitValue());
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (final IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("application did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static List<String> jvmArgs(final List<String> extra) {
+        final var args = new ArrayList<>(extra);
+        if (AOT) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+        return args;
+    }
+
+    private static String extractedJar() throws IOException {
+        assumeTrue(Files.isDirectory(CDS_DIR), "no extracted jar, run mvn -Pcds package");
+        try (final var files = Files.list(CDS_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("no jar in " + CDS_DIR)).toString();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (final var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_DISPATCHER;
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_LOGGING;
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_SQL;
+
+// The same DEBUG output through the bounded async queues of logback-spring.xml. With the default backpressure policy
+// a saturated writer still slows requests down; add bookstore.logging.async.never-block=true to measure dropping
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {DEBUG_LOGGING, DEBUG_DISPATCHER, DEBUG_SQL, "spring.threads.virtual.enabled=true"})
+public class AsyncLoggingLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "logging-async";
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.model.Book;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final long FIRST_ID = 1_000_000L;
+
+    private BenchmarkData() {
+    }
+
+    // Each Spring context may recreate the schema, so check the table rather than remembering what was seeded
+    static void ensureBooks(final JdbcTemplate jdbcTemplate, final int rows) {
+        final var existing = jdbcTemplate.queryForObject("select count(*) from book where id >= ?", Long.class, FIRST_ID);
+        if (existing == null || existing < rows) {
+            jdbcTemplate.update("delete from book where id >= ?", FIRST_ID);
+            seedBooks(jdbcTemplate, FIRST_ID, rows);
+        }
+    }
+
+    // Inserts rows straight through JDBC so seeding does not skew what the benchmark measures
+    static void seedBooks(final JdbcTemplate jdbcTemplate, final long firstId, final int rows) {
+        final var batch = new ArrayList<Object[]>(INSERT_BATCH_SIZE);
+        final var now = Timestamp.from(Instant.now());
+        for (var i = 0; i < rows; i++) {
+            final var id = firstId + i;
+            final var title = "Benchmark Title " + id;
+            final var author = "Author " + (id % 1_000);
+            batch.add(new Object[]{id, title, author, BigDecimal.valueOf(id % 10_000, 2), Book.searchKey(title), Book.searchKey(author), 0L, now});
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into book (id, title, author, price, title_key, author_key, version, last_modified) values (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // Returns the retained heap right after the reset so callers can report growth rather than absolute usage
+    static long resetPeakHeap() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        return heapPools().stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    static long peakHeapBytes() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    // Eden always fills up before a collection, so only survivor and old pools say anything about live data
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && !pool.getName().contains("Eden"))
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.Bookstore.benchmark;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compares peak heap of the materialised JSON list against the streaming NDJSON export
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "logging.level.com.example=INFO")
+public class BookExportBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() {
+        BenchmarkData.ensureBooks(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    public void peakHeap_listVersusExport() throws Exception {
+        // Warm up both code paths once before measuring
+        fetch("/api/v1/books");
+        fetch("/api/v1/books/export");
+
+        final var list = measure("/api/v1/books");
+        final var export = measure("/api/v1/books/export");
+
+        System.out.printf("rows=%d%n", ROWS);
+        System.out.printf("GET /api/v1/books        peakHeapGrowth=%,d bytes  body=%,d bytes  time=%d ms%n", list[0], list[1], list[2]);
+        System.out.printf("GET /api/v1/books/export peakHeapGrowth=%,d bytes  body=%,d bytes  time=%d ms%n", export[0], export[1], export[2]);
+    }
+
+    private long[] measure(final String path) throws Exception {
+        final var baseline = BenchmarkData.resetPeakHeap();
+        final var start = System.nanoTime();
+        final var bytes = fetch(path);
+        final var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new long[]{BenchmarkData.peakHeapBytes() - baseline, bytes, elapsedMillis};
+    }
+
+    private long fetch(final String path) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+        try (final InputStream body = response.body()) {
+            final var buffer = new byte[64 * 1024];
+            var total = 0L;
+            for (var read = body.read(buffer); read != -1; read = body.read(buffer)) {
+                total += read;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.Bookstore.benchmark;
+
+import com.example.Bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// Query latency of GET /api/v1/books/search style lookups against a large catalogue
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.example=INFO")
+public class BookSearchBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        BenchmarkData.ensureBooks(jdbcTemplate, ROWS);
+    }
+
+    @Test
+    public void searchLatency() {
+        System.out.printf("rows=%,d iterations=%d%n", ROWS, ITERATIONS);
+        report("title prefix", () -> bookService.searchBooks("benchmark title 1234", null, null, null, null, 20).books());
+        report("author prefix", () -> bookService.searchBooks(null, "author 99", null, null, null, 20).books());
+        report("price range", () -> bookService.searchBooks(null, null, new BigDecimal("10.00"), new BigDecimal("10.50"), null, 20).books());
+        report("title + price", () -> bookService.searchBooks("benchmark title 15", null, new BigDecimal("50.00"), new BigDecimal("60.00"), null, 20).books());
+    }
+
+    private void report(final String name, final Supplier<? extends List<?>> search) {
+        for (var i = 0; i < ITERATIONS / 4; i++) {
+            search.get();
+        }
+        final var samples = new long[ITERATIONS];
+        for (var i = 0; i < ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            assertFalse(search.get().isEmpty());
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        System.out.printf("%-14s p50=%.3f ms p95=%.3f ms p99=%.3f ms%n", name,
+                samples[ITERATIONS / 2] / 1e6, samples[ITERATIONS * 95 / 100] / 1e6, samples[ITERATIONS * 99 / 100] / 1e6);
+    }
+}
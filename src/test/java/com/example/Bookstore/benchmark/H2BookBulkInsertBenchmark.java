@@ -0,0 +1,12 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "logging.level.com.example=INFO")
+public class H2BookBulkInsertBenchmark extends AbstractBookBulkInsertBenchmark {
+
+    @Override
+    protected String database() {
+        return "H2";
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "logging.level.com.example=INFO")
+@ActiveProfiles("l2cache")
+public class L2CacheReadMixBenchmark extends AbstractBookReadMixBenchmark {
+
+    @Override
+    protected String mode() {
+        return "L2 + query cache";
+    }
+}
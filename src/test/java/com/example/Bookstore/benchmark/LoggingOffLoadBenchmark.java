@@ -0,0 +1,19 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Baseline for SyncLoggingLoadBenchmark and AsyncLoggingLoadBenchmark: nothing is logged per request
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.example=INFO", "spring.threads.virtual.enabled=true"})
+public class LoggingOffLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    // Per-request DEBUG output of the dispatcher, every SQL statement and the application loggers
+    static final String DEBUG_LOGGING = "logging.level.com.example=DEBUG";
+    static final String DEBUG_DISPATCHER = "logging.level.org.springframework.web.servlet.DispatcherServlet=DEBUG";
+    static final String DEBUG_SQL = "logging.level.org.hibernate.SQL=DEBUG";
+
+    @Override
+    protected String mode() {
+        return "logging-off";
+    }
+}
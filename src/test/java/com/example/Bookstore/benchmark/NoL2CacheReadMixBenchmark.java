@@ -0,0 +1,12 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "logging.level.com.example=INFO")
+public class NoL2CacheReadMixBenchmark extends AbstractBookReadMixBenchmark {
+
+    @Override
+    protected String mode() {
+        return "no L2 cache";
+    }
+}
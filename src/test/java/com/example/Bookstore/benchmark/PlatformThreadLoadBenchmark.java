@@ -0,0 +1,13 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.example=INFO", "spring.threads.virtual.enabled=false"})
+public class PlatformThreadLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform-threads";
+    }
+}
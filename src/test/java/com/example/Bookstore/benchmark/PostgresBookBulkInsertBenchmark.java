@@ -0,0 +1,22 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Needs a local Docker daemon; skipped otherwise
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = "logging.level.com.example=INFO")
+public class PostgresBookBulkInsertBenchmark extends AbstractBookBulkInsertBenchmark {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Override
+    protected String database() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Baseline for PostgresProdLoadBenchmark: PostgreSQL with the default profile's pool and JPA settings.
+// Needs a local Docker daemon; skipped otherwise
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.example=INFO", "spring.threads.virtual.enabled=false"})
+public class PostgresDefaultLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Override
+    protected String mode() {
+        return "postgres-default";
+    }
+}
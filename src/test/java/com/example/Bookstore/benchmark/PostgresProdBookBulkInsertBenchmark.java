@@ -0,0 +1,25 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// PostgresBookBulkInsertBenchmark with the prod profile (rewritten batch inserts, no auto-commit toggling).
+// Needs a local Docker daemon; skipped otherwise
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {"spring.sql.init.mode=always", "spring.sql.init.schema-locations=classpath:db/postgresql/schema.sql"})
+@ActiveProfiles("prod")
+public class PostgresProdBookBulkInsertBenchmark extends AbstractBookBulkInsertBenchmark {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Override
+    protected String database() {
+        return "PostgreSQL prod";
+    }
+}
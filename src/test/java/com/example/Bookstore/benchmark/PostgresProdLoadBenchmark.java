@@ -0,0 +1,28 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Same load as PostgresDefaultLoadBenchmark with the prod profile. The profile never touches the schema, so the test
+// applies db/postgresql/schema.sql itself. Needs a local Docker daemon; skipped otherwise
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=false",
+                "spring.sql.init.mode=always",
+                "spring.sql.init.schema-locations=classpath:db/postgresql/schema.sql"})
+@ActiveProfiles("prod")
+public class PostgresProdLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Override
+    protected String mode() {
+        return "postgres-prod";
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_DISPATCHER;
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_LOGGING;
+import static com.example.Bookstore.benchmark.LoggingOffLoadBenchmark.DEBUG_SQL;
+
+// DEBUG logging written on the request thread, as before the async appenders
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {DEBUG_LOGGING, DEBUG_DISPATCHER, DEBUG_SQL, "spring.threads.virtual.enabled=true"})
+@ActiveProfiles("sync-logging")
+public class SyncLoggingLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "logging-sync";
+    }
+}
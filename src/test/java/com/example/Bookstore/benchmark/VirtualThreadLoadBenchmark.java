@@ -0,0 +1,13 @@
+package com.example.Bookstore.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.example=INFO", "spring.threads.virtual.enabled=true"})
+public class VirtualThreadLoadBenchmark extends AbstractRequestExecutionLoadBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.Bookstore.changes;
+
+import com.example.Bookstore.model.BookChangeEvent;
+import com.example.Bookstore.model.BookChangeType;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.repository.BookChangeEventRepository;
+import com.example.Bookstore.service.BookCatalogVersion;
+import com.example.Bookstore.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+public class BookChangeFeedTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookChangeFeed bookChangeFeed;
+
+    @Autowired
+    private BookChangeEventRepository bookChangeEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BookCatalogVersion bookCatalogVersion;
+
+    @Test
+    public void writes_recordOutboxEventsThatTheRelayNumbersInCommitOrder() {
+        bookChangeFeed.relay();
+        final var before = headSequence();
+
+        final var book = bookService.addBook(new BookDTO("Change Feed Created", "Feed Author", BigDecimal.ONE));
+        bookService.updateBook(book.getId(), new BookDTO("Change Feed Updated", "Feed Author", BigDecimal.TEN));
+        bookService.deleteBookById(book.getId());
+        bookChangeFeed.relay();
+
+        final var events = bookChangeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(before, Limit.of(10))
+                .stream().filter(event -> book.getId().equals(event.getBookId())).toList();
+        assertEquals(3, events.size());
+        assertEquals("CREATED,UPDATED,DELETED", String.join(",", events.stream().map(event -> event.getType().name()).toList()));
+    }
+
+    @Test
+    public void streamChanges_resumesAfterSequenceAndPushesNewChanges() throws Exception {
+        bookChangeFeed.relay();
+        final var before = headSequence();
+        final var first = bookService.addBook(new BookDTO("Change Feed Resume", "Feed Author", BigDecimal.ONE));
+        bookChangeFeed.relay();
+
+        // Built on the shared application context rather than a separate MockMvc one, so both use the same database
+        final var mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        final var sse = mockMvc.perform(get("/api/v1/books/changes").header("Last-Event-ID", before).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final var ndjson = mockMvc.perform(get("/api/v1/books/changes").param("after", String.valueOf(before)).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(sse, "\"bookId\":" + first.getId());
+        awaitContent(ndjson, "\"bookId\":" + first.getId());
+
+        final var second = bookService.addBook(new BookDTO("Change Feed Pushed", "Feed Author", BigDecimal.ONE));
+        bookChangeFeed.relay();
+
+        awaitContent(sse, "\"bookId\":" + second.getId());
+        awaitContent(ndjson, "\"bookId\":" + second.getId());
+        assertTrue(sse.getResponse().getContentAsString().contains("id:" + (before + 1) + "\nevent:CREATED\ndata:{"));
+        assertTrue(ndjson.getResponse().getContentAsString().startsWith("{\"sequence\":" + (before + 1) + ","));
+    }
+
+    @Test
+    public void deletePublishedBefore_keepsTheHighestSequenceSoNumberingCarriesOn() {
+        bookService.addBook(new BookDTO("Change Feed Retained", "Feed Author", BigDecimal.ONE));
+        bookChangeFeed.relay();
+        final var head = headSequence();
+
+        transactionTemplate.execute(status -> bookChangeEventRepository.deletePublishedBefore(Instant.now().plusSeconds(60)));
+
+        assertEquals(head, headSequence());
+        final var book = bookService.addBook(new BookDTO("Change Feed After Retention", "Feed Author", BigDecimal.ONE));
+        bookChangeFeed.relay();
+        final var events = bookChangeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(head, Limit.of(10));
+        assertEquals(head + 1, events.getFirst().getSequence());
+        assertEquals(book.getId(), events.getFirst().getBookId());
+    }
+
+    @Test
+    public void relay_whenAnotherWriterAddsAnOutboxRow_advancesTheCatalogETag() {
+        bookChangeFeed.relay();
+        final var etag = bookCatalogVersion.etag();
+
+        // What another instance or the reactive application commits: an outbox row this instance's BookService never saw
+        bookChangeEventRepository.save(BookChangeEvent.of(BookChangeType.UPDATED, 1L));
+        bookChangeFeed.relay();
+
+        assertEquals("\"catalog-" + headSequence() + "\"", bookCatalogVersion.etag());
+        assertNotEquals(etag, bookCatalogVersion.etag());
+    }
+
+    private long headSequence() {
+        final var head = bookChangeEventRepository.findMaxSequence();
+        return head != null ? head : 0L;
+    }
+
+    private static void awaitContent(final MvcResult result, final String expected) throws Exception {
+        final var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for " + expected + " in " + result.getResponse().getContentAsString());
+            Thread.sleep(20);
+        }
+    }
+}
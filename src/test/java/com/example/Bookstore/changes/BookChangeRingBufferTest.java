@@ -0,0 +1,51 @@
+package com.example.Bookstore.changes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BookChangeRingBufferTest {
+
+    @Test
+    public void readAfter_returnsBufferedChangesInOrderUpToMax() {
+        final var ringBuffer = new BookChangeRingBuffer(4, 0L);
+        for (var sequence = 1L; sequence <= 3L; sequence++) {
+            ringBuffer.append(change(sequence));
+        }
+
+        assertEquals(List.of(2L, 3L), sequences(ringBuffer.readAfter(1L, 10)));
+        assertEquals(List.of(1L, 2L), sequences(ringBuffer.readAfter(0L, 2)));
+        assertEquals(List.of(), ringBuffer.readAfter(3L, 10));
+    }
+
+    @Test
+    public void readAfter_whenChangesOverwritten_returnsNull() {
+        final var ringBuffer = new BookChangeRingBuffer(4, 0L);
+        for (var sequence = 1L; sequence <= 6L; sequence++) {
+            ringBuffer.append(change(sequence));
+        }
+
+        assertNull(ringBuffer.readAfter(1L, 10));
+        assertEquals(List.of(3L, 4L, 5L, 6L), sequences(ringBuffer.readAfter(2L, 10)));
+    }
+
+    @Test
+    public void readAfter_whenStartedFromPersistedHead_returnsNullForOlderChanges() {
+        final var ringBuffer = new BookChangeRingBuffer(4, 100L);
+        ringBuffer.append(change(101L));
+
+        assertNull(ringBuffer.readAfter(99L, 10));
+        assertEquals(List.of(101L), sequences(ringBuffer.readAfter(100L, 10)));
+    }
+
+    private static EncodedBookChange change(final long sequence) {
+        return new EncodedBookChange(sequence, "id:" + sequence + "\n\n", sequence + "\n");
+    }
+
+    private static List<Long> sequences(final List<EncodedBookChange> changes) {
+        return changes.stream().map(EncodedBookChange::sequence).toList();
+    }
+}
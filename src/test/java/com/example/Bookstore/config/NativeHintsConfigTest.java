@@ -0,0 +1,43 @@
+package com.example.Bookstore.config;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.ApiErrorDTO;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookImportJobDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    public void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.BookstoreRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void registerHints_coversPayloadRecords() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookDTO.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ApiErrorDTO.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookImportJobDTO.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    public void registerHints_coversBookAccessors() throws NoSuchMethodException {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Book.class.getMethod("getTitle")).invoke().test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Book.class.getMethod("setTitle", String.class)).invoke().test(hints));
+    }
+
+    @Test
+    public void registerHints_coversResourcesLoadedByName() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("hibernate-jcache.conf").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/postgresql/schema.sql").test(hints));
+    }
+}
@@ -1,31 +1,76 @@
 package com.example.Bookstore.controller;
 
+import com.example.Bookstore.changes.BookChangeFeed;
 import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.exception.InvalidCursorException;
+import com.example.Bookstore.config.PayloadFormatConfig;
 import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.ApiErrorDTO;
+import com.example.Bookstore.payload.BookBatchResultDTO;
+import com.example.Bookstore.payload.BookCreateSummaryDTO;
 import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.payload.BookPageDTO;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import com.example.Bookstore.service.BookBatchOperationType;
+import com.example.Bookstore.service.BookCatalogVersion;
 import com.example.Bookstore.service.BookService;
+import com.example.Bookstore.service.BulkValidationMode;
+import com.example.Bookstore.throttling.BookRequestThrottlingInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.ratelimiter.autoconfigure.RateLimiterAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(BookController.class)
+@DisabledInNativeImage
+@WebMvcTest(value = BookController.class, properties = "resilience4j.ratelimiter.configs.books-write.limit-for-period=1000")
+@ImportAutoConfiguration({BulkheadAutoConfiguration.class, RateLimiterAutoConfiguration.class})
+@Import(SimpleMeterRegistry.class)
 public class BookControllerTest {
 
     @Autowired
@@ -34,6 +79,24 @@ public class BookControllerTest {
     @MockitoBean
     private BookService bookService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private BookCatalogVersion bookCatalogVersion;
+
+    @MockitoBean
+    private BookChangeFeed bookChangeFeed;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        when(bookCatalogVersion.etag()).thenReturn("\"catalog-test-7\"");
+        when(bookCatalogVersion.lastModified()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void getBookById_whenExists_returns200() throws Exception {
@@ -50,6 +113,78 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.title").value("Refactoring"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenExists_returnsValidators() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        book.setVersion(3L);
+        book.setLastModified(Instant.parse("2025-01-01T00:00:00Z"));
+        when(bookService.getBookById(1L)).thenReturn(book);
+
+        mockMvc.perform(get("/api/v1/books/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 00:00:00 GMT"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenETagMatches_returns304() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        book.setVersion(3L);
+        when(bookService.getBookById(1L)).thenReturn(book);
+
+        mockMvc.perform(get("/api/v1/books/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenETagIsStale_returns200() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        book.setVersion(4L);
+        when(bookService.getBookById(1L)).thenReturn(book);
+
+        mockMvc.perform(get("/api/v1/books/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBooks_whenCatalogETagMatches_returns304WithoutQuerying() throws Exception {
+        mockMvc.perform(get("/api/v1/books")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"catalog-test-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalog-test-7\""))
+                .andExpect(content().string(""));
+
+        verify(bookService, never()).getBooks();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBooks_whenCatalogETagIsStale_returns200() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        when(bookService.getBooks()).thenReturn(List.of(book));
+
+        mockMvc.perform(get("/api/v1/books")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"catalog-test-6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"catalog-test-7\""));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void getBookById_whenNotFound_returns404() throws Exception {
@@ -61,6 +196,35 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.message").value("Book not found with id: 2"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenNotFound_rendersEveryApiErrorField() throws Exception {
+        when(bookService.getBookById(2L)).thenThrow(new BookNotFoundException(2L));
+
+        mockMvc.perform(get("/api/v1/books/{id}", 2L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.timestamp").isNotEmpty())
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.error").value("Not Found"))
+                .andExpect(jsonPath("$.message").value("Book not found with id: 2"))
+                .andExpect(jsonPath("$.path").value("/api/v1/books/2"))
+                .andExpect(jsonPath("$.validationErrors").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenNotFound_countsError() throws Exception {
+        when(bookService.getBookById(3L)).thenThrow(new BookNotFoundException(3L));
+        final var before = meterRegistry.counter("bookstore.book.errors", "type", "not_found").count();
+
+        mockMvc.perform(get("/api/v1/books/{id}", 3L))
+                .andExpect(status().isNotFound());
+
+        assertEquals(before + 1, meterRegistry.counter("bookstore.book.errors", "type", "not_found").count());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void getBooks_whenExists_return200() throws Exception {
@@ -85,6 +249,16 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$[1].title").value("Harry Potter"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBooks_whenUnrelatedTaskRejected_isNotReportedAsFullImportQueue() throws Exception {
+        when(bookService.getBooks()).thenThrow(new TaskRejectedException("executor shut down"));
+
+        mockMvc.perform(get("/api/v1/books"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("executor shut down"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void getBooks_whenNotFound_returns404() throws Exception {
@@ -95,6 +269,94 @@ public class BookControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBooksPage_whenExists_return200() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        book.setAuthor("Martin Fowler");
+        book.setPrice(new BigDecimal("50.0"));
+
+        when(bookService.getBooksPage(null, 1)).thenReturn(new BookPageDTO(List.of(book), "MQ", 1));
+
+        mockMvc.perform(get("/api/v1/books")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.books[0].title").value("Refactoring"))
+                .andExpect(jsonPath("$.nextCursor").value("MQ"))
+                .andExpect(jsonPath("$.size").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBooksPage_whenCursorInvalid_returns400() throws Exception {
+        when(bookService.getBooksPage("bogus", null)).thenThrow(new InvalidCursorException("bogus"));
+
+        mockMvc.perform(get("/api/v1/books")
+                        .param("cursor", "bogus")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor: bogus"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void searchBooks_whenMatches_return200() throws Exception {
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        book.setAuthor("Martin Fowler");
+        book.setPrice(new BigDecimal("50.0"));
+
+        when(bookService.searchBooks("refac", "martin", new BigDecimal("10"), null, null, null))
+                .thenReturn(new BookPageDTO(List.of(book), null, 20));
+
+        mockMvc.perform(get("/api/v1/books/search")
+                        .param("title", "refac")
+                        .param("author", "martin")
+                        .param("minPrice", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.books[0].title").value("Refactoring"))
+                .andExpect(jsonPath("$.books[0].titleKey").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void searchFullText_whenMatches_return200() throws Exception {
+        when(bookService.searchFullText("refactoring", null))
+                .thenReturn(List.of(new BookSearchHitDTO(1L, "Refactoring", "Martin Fowler", new BigDecimal("50.0"), 2.5)));
+
+        mockMvc.perform(get("/api/v1/books/fulltext")
+                        .param("q", "refactoring")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Refactoring"))
+                .andExpect(jsonPath("$[0].score").value(2.5));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void exportBooks_whenExists_streamsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            final OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(bookService).exportBooks(any());
+
+        final var result = mockMvc.perform(get("/api/v1/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void deleteBooks_whenExists_return200() throws Exception {
@@ -131,6 +393,31 @@ public class BookControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void deleteBooksInBulk_whenExists_returnsCount() throws Exception {
+        when(bookService.purgeBooks()).thenReturn(250_000L);
+
+        mockMvc.perform(delete("/api/v1/books")
+                        .param("bulk", "true")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(250_000L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void deleteBooksInBulk_whenNotFound_returns404() throws Exception {
+        when(bookService.purgeBooks()).thenReturn(0L);
+
+        mockMvc.perform(delete("/api/v1/books")
+                        .param("bulk", "true")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void deleteBookById_whenExists_returns200() throws Exception {
@@ -182,6 +469,40 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$.title").value("Refactoring"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void addBook_whenWriteBulkheadFull_returns429AndKeepsReadsOpen() throws Exception {
+        final var writes = bulkheadRegistry.bulkhead(BookRequestThrottlingInterceptor.WRITE);
+        final var permits = writes.getMetrics().getAvailableConcurrentCalls();
+        for (var i = 0; i < permits; i++) {
+            writes.acquirePermission();
+        }
+        final var before = meterRegistry.counter("bookstore.requests.shed", "reason", "bulkhead", "name", BookRequestThrottlingInterceptor.WRITE).count();
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle("Refactoring");
+        when(bookService.getBookById(1L)).thenReturn(book);
+        try {
+            mockMvc.perform(post("/api/v1/books")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(new ObjectMapper().writeValueAsString(new BookDTO("Refactoring", "Martin Fowler", new BigDecimal("50.0")))))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.status").value(429));
+            mockMvc.perform(get("/api/v1/books/{id}", 1L))
+                    .andExpect(status().isOk());
+        } finally {
+            for (var i = 0; i < permits; i++) {
+                writes.onComplete();
+            }
+        }
+
+        verify(bookService, never()).addBook(any());
+        assertEquals(before + 1, meterRegistry.counter("bookstore.requests.shed", "reason", "bulkhead", "name", BookRequestThrottlingInterceptor.WRITE).count());
+        assertEquals(permits, writes.getMetrics().getAvailableConcurrentCalls());
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void addListOfBooks_whenAdded_returns201() throws Exception {
@@ -215,6 +536,133 @@ public class BookControllerTest {
                 .andExpect(jsonPath("$[1].title").value("Harry Potter"));
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    public void addBooksStream_whenValid_returns201() throws Exception {
+        when(bookService.addBooks(any(InputStream.class), eq(BulkValidationMode.COLLECT), any(ObjectMapper.class))).thenReturn(new BookCreateSummaryDTO(2L));
+
+        mockMvc.perform(post("/api/v1/books/all/stream")
+                        .param("mode", "COLLECT")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(2L));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void addBooksStream_whenInvalid_returns400WithIndexedErrors() throws Exception {
+        when(bookService.addBooks(any(InputStream.class), eq(BulkValidationMode.FAIL_FAST), any(ObjectMapper.class)))
+                .thenThrow(new BookValidationException("Validation failed at index 1", List.of("[1].title: size must be between 10 and 30")));
+
+        mockMvc.perform(post("/api/v1/books/all/stream")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed at index 1"))
+                .andExpect(jsonPath("$.validationErrors[0]").value("[1].title: size must be between 10 and 30"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void addBooksStream_whenSmile_parsesWithSmileMapper() throws Exception {
+        when(bookService.addBooks(any(InputStream.class), eq(BulkValidationMode.FAIL_FAST),
+                argThat(reader -> reader.getFactory() instanceof SmileFactory))).thenReturn(new BookCreateSummaryDTO(1L));
+        final var smile = new ObjectMapper(new SmileFactory());
+
+        final var body = mockMvc.perform(post("/api/v1/books/all/stream")
+                        .with(csrf())
+                        .contentType(PayloadFormatConfig.SMILE_VALUE)
+                        .accept(PayloadFormatConfig.SMILE_VALUE)
+                        .content(smile.writeValueAsBytes(List.of(new BookDTO("Refactoring", "Martin Fowler", new BigDecimal("50.0"))))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(PayloadFormatConfig.SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(1L, smile.readValue(body, BookCreateSummaryDTO.class).created());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void addBook_whenCbor_returnsCbor() throws Exception {
+        final var bookDTO = new BookDTO("Refactoring", "Martin Fowler", new BigDecimal("50.0"));
+        final var book = new Book();
+        book.setId(1L);
+        book.setTitle(bookDTO.title());
+        book.setAuthor(bookDTO.author());
+        book.setPrice(bookDTO.price());
+        when(bookService.addBook(bookDTO)).thenReturn(book);
+        final var cbor = new ObjectMapper(new CBORFactory());
+
+        final var body = mockMvc.perform(post("/api/v1/books")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(bookDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("Refactoring", cbor.readTree(body).get("title").asText());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getBookById_whenNotFoundAndSmile_returnsSmileError() throws Exception {
+        when(bookService.getBookById(4L)).thenThrow(new BookNotFoundException(4L));
+
+        final var body = mockMvc.perform(get("/api/v1/books/{id}", 4L)
+                        .accept(PayloadFormatConfig.SMILE_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(PayloadFormatConfig.SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals("Book not found with id: 4", new ObjectMapper(new SmileFactory()).findAndRegisterModules()
+                .readValue(body, ApiErrorDTO.class).message());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void streamChanges_resumesFromLastEventIdWithoutTakingABulkheadPermit() throws Exception {
+        final var emitter = new ResponseBodyEmitter();
+        when(bookChangeFeed.subscribe(41L, MediaType.TEXT_EVENT_STREAM)).thenReturn(emitter);
+        final var available = bulkheadRegistry.bulkhead(BookRequestThrottlingInterceptor.READ).getMetrics().getAvailableConcurrentCalls();
+
+        final var result = mockMvc.perform(get("/api/v1/books/changes").param("after", "7").header("Last-Event-ID", "41").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(available, bulkheadRegistry.bulkhead(BookRequestThrottlingInterceptor.READ).getMetrics().getAvailableConcurrentCalls());
+        emitter.send("id:42\nevent:CREATED\ndata:{}\n\n", MediaType.TEXT_PLAIN);
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andExpect(content().string("id:42\nevent:CREATED\ndata:{}\n\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void executeBatch_returnsPerOperationResults() throws Exception {
+        when(bookService.executeBatch(any())).thenReturn(List.of(
+                new BookBatchResultDTO(0, BookBatchOperationType.DELETE, 7L, 200, null, null),
+                new BookBatchResultDTO(1, BookBatchOperationType.UPDATE, 8L, 404, null, List.of("Book not found with id: 8"))));
+
+        mockMvc.perform(post("/api/v1/books/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"type":"DELETE","id":7},
+                                 {"type":"UPDATE","id":8,"book":{"title":"Refactoring Again","author":"Martin Fowler","price":50.0}}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[1].status").value(404))
+                .andExpect(jsonPath("$[1].errors[0]").value("Book not found with id: 8"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     public void updateBook_whenAdded_returns200() throws Exception {
@@ -0,0 +1,101 @@
+package com.example.Bookstore.controller;
+
+import com.example.Bookstore.exception.ImportJobNotFoundException;
+import com.example.Bookstore.exception.ImportQueueFullException;
+import com.example.Bookstore.exception.InvalidImportException;
+import com.example.Bookstore.imports.BookImportFormat;
+import com.example.Bookstore.imports.BookImportJob;
+import com.example.Bookstore.imports.BookImportService;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.ratelimiter.autoconfigure.RateLimiterAutoConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisabledInNativeImage
+@WebMvcTest(value = BookImportController.class, properties = "resilience4j.ratelimiter.configs.books-write.limit-for-period=1000")
+@ImportAutoConfiguration({BulkheadAutoConfiguration.class, RateLimiterAutoConfiguration.class})
+@Import(SimpleMeterRegistry.class)
+public class BookImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BookImportService bookImportService;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void importBooks_whenAccepted_returns202WithLocation() throws Exception {
+        when(bookImportService.submit(any())).thenReturn(new BookImportJob("job-1", BookImportFormat.CSV, 100));
+
+        mockMvc.perform(multipart("/api/v1/books/imports")
+                        .file(new MockMultipartFile("file", "books.csv", "text/csv", "title,author,price\n".getBytes()))
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/v1/books/imports/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void importBooks_whenUnsupported_returns400() throws Exception {
+        when(bookImportService.submit(any())).thenThrow(new InvalidImportException("Unsupported import file, expected .csv or .ndjson: books.xlsx"));
+
+        mockMvc.perform(multipart("/api/v1/books/imports")
+                        .file(new MockMultipartFile("file", "books.xlsx", "application/octet-stream", "x".getBytes()))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported import file, expected .csv or .ndjson: books.xlsx"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void importBooks_whenQueueFull_returns503() throws Exception {
+        when(bookImportService.submit(any())).thenThrow(new ImportQueueFullException());
+
+        mockMvc.perform(multipart("/api/v1/books/imports")
+                        .file(new MockMultipartFile("file", "books.csv", "text/csv", "title,author,price\n".getBytes()))
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getImport_whenExists_returns200() throws Exception {
+        when(bookImportService.getJob("job-1")).thenReturn(new BookImportJob("job-1", BookImportFormat.NDJSON, 100));
+
+        mockMvc.perform(get("/api/v1/books/imports/{jobId}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.format").value("NDJSON"))
+                .andExpect(jsonPath("$.processedRows").value(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    public void getImport_whenNotFound_returns404() throws Exception {
+        when(bookImportService.getJob("missing")).thenThrow(new ImportJobNotFoundException("missing"));
+
+        mockMvc.perform(get("/api/v1/books/imports/{jobId}", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Import job not found with id: missing"));
+    }
+}
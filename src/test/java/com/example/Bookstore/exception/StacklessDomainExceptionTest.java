@@ -0,0 +1,29 @@
+package com.example.Bookstore.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StacklessDomainExceptionTest {
+
+    @Test
+    public void bookNotFound_capturesNoStackTraceAndRendersMessageFromId() {
+        final var ex = new BookNotFoundException(42L);
+
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals(42L, ex.getId());
+        assertEquals("Book not found with id: 42", ex.getMessage());
+    }
+
+    @Test
+    public void domainExceptions_doNotRecordSuppressedExceptions() {
+        final var ex = new BookValidationException("Validation failed", List.of("title: must not be blank"));
+        ex.addSuppressed(new IllegalStateException());
+
+        assertEquals(0, ex.getSuppressed().length);
+        assertEquals(0, new InvalidCursorException("abc").getStackTrace().length);
+        assertEquals("Import job not found with id: job-1", new ImportJobNotFoundException("job-1").getMessage());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.Bookstore.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisabledInNativeImage
+public class RecommendationServiceHealthCheckerTest {
+
+    private static final String URL = "http://recommendation/api/recommend/healthcheck";
+
+    private MockRestServiceServer server;
+
+    private RecommendationServiceHealthChecker healthChecker;
+
+    @BeforeEach
+    public void setUp() {
+        final var restClientBuilder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(restClientBuilder).build();
+        healthChecker = new RecommendationServiceHealthChecker();
+        ReflectionTestUtils.setField(healthChecker, "recommendationRestClient", restClientBuilder.build());
+        ReflectionTestUtils.setField(healthChecker, "recommendedServiceUrl", URL);
+    }
+
+    @Test
+    public void health_beforeFirstProbe_isUnknownWithoutCallingService() {
+        assertEquals(Status.UNKNOWN, healthChecker.health().getStatus());
+        server.verify();
+    }
+
+    @Test
+    public void refresh_whenServiceAnswersOk_cachesUpWithSingleCall() {
+        server.expect(requestTo(URL)).andRespond(withSuccess("OK", MediaType.TEXT_PLAIN));
+
+        healthChecker.refresh();
+
+        assertEquals(Status.UP, healthChecker.health().getStatus());
+        assertEquals(Status.UP, healthChecker.health().getStatus());
+        server.verify();
+    }
+
+    @Test
+    public void refresh_whenServiceFails_cachesDown() {
+        server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        healthChecker.refresh();
+
+        assertEquals(Status.DOWN, healthChecker.health().getStatus());
+        assertEquals("Unhealthy response", healthChecker.health().getDetails().get("Recommendation Service"));
+        assertEquals(503, healthChecker.health().getDetails().get("status"));
+        server.verify();
+    }
+}
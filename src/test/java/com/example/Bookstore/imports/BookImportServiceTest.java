@@ -0,0 +1,170 @@
+package com.example.Bookstore.imports;
+
+import com.example.Bookstore.exception.ImportJobNotFoundException;
+import com.example.Bookstore.exception.ImportQueueFullException;
+import com.example.Bookstore.exception.InvalidImportException;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.service.BookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage
+public class BookImportServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private TaskExecutor rejectingExecutor;
+
+    @InjectMocks
+    private BookImportService bookImportService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookImportService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(bookImportService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(bookImportService, "bookImportExecutor", new SyncTaskExecutor());
+        ReflectionTestUtils.setField(bookImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(bookImportService, "maxErrors", 100);
+        ReflectionTestUtils.setField(bookImportService, "retention", Duration.ofHours(1));
+    }
+
+    @Test
+    public void submit_whenCsv_importsValidRowsInChunksAndReportsRowErrors() throws Exception {
+        final var csv = """
+                title,author,price
+                Clean Code Book,Robert Martin,40.00
+                "Refactoring, 2nd Edition",Martin Fowler,50.00
+                Short,Nobody,1.00
+                Domain Driven Design,Eric Evans,not-a-price
+                Release It Second,Michael Nygard,35.00
+                """;
+
+        final var job = bookImportService.submit(file("books.csv", "text/csv", csv));
+
+        final var status = job.toDTO();
+        assertEquals(BookImportStatus.COMPLETED, status.status());
+        assertEquals(BookImportFormat.CSV, status.format());
+        assertEquals(5, status.processedRows());
+        assertEquals(3, status.importedRows());
+        assertEquals(2, status.failedRows());
+        assertEquals(4, status.errors().get(0).line());
+        assertTrue(status.errors().get(0).error().startsWith("title: size must be between"));
+        assertEquals(5, status.errors().get(1).line());
+        assertEquals("price: not a number: not-a-price", status.errors().get(1).error());
+        assertNotNull(status.finishedAt());
+
+        final ArgumentCaptor<List<BookDTO>> chunks = ArgumentCaptor.captor();
+        verify(bookService, times(2)).addBooks(chunks.capture());
+        assertEquals(2, chunks.getAllValues().get(0).size());
+        assertEquals("Refactoring, 2nd Edition", chunks.getAllValues().get(0).get(1).title());
+        assertEquals(List.of(new BookDTO("Release It Second", "Michael Nygard", new BigDecimal("35.00"))), chunks.getAllValues().get(1));
+    }
+
+    @Test
+    public void submit_whenNdjson_reportsMalformedLines() throws Exception {
+        final var ndjson = """
+                {"title":"Clean Code Book","author":"Robert Martin","price":40.00}
+                {"title":"Broken
+                {"title":"Refactoring Code","author":"Martin Fowler","price":50.00}
+                """;
+
+        final var status = bookImportService.submit(file("books.ndjson", "application/octet-stream", ndjson)).toDTO();
+
+        assertEquals(BookImportStatus.COMPLETED, status.status());
+        assertEquals(2, status.importedRows());
+        assertEquals(1, status.failedRows());
+        assertEquals(2, status.errors().get(0).line());
+        assertTrue(status.errors().get(0).error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    public void submit_whenCsvHeaderMissesColumns_failsJob() throws Exception {
+        final var status = bookImportService.submit(file("books.csv", "text/csv", "title,author\nClean Code Book,Robert Martin\n")).toDTO();
+
+        assertEquals(BookImportStatus.FAILED, status.status());
+        assertTrue(status.message().startsWith("CSV header must contain columns"));
+        verify(bookService, never()).addBooks(any());
+    }
+
+    @Test
+    public void submit_whenPersistingFails_failsJob() throws Exception {
+        doThrow(new IllegalStateException("database down")).when(bookService).addBooks(any());
+
+        final var status = bookImportService.submit(file("books.csv", "text/csv", "title,author,price\nClean Code Book,Robert Martin,40.00\n")).toDTO();
+
+        assertEquals(BookImportStatus.FAILED, status.status());
+        assertEquals("database down", status.message());
+        assertEquals(0, status.importedRows());
+    }
+
+    @Test
+    public void submit_whenUnsupportedFormat_throwsException() {
+        assertThrows(InvalidImportException.class, () -> bookImportService.submit(file("books.xlsx", "application/octet-stream", "data")));
+    }
+
+    @Test
+    public void submit_whenEmpty_throwsException() {
+        assertThrows(InvalidImportException.class, () -> bookImportService.submit(file("books.csv", "text/csv", "")));
+    }
+
+    @Test
+    public void submit_whenQueueFull_rejectsAndForgetsJob() {
+        doThrow(new TaskRejectedException("full")).when(rejectingExecutor).execute(any());
+        ReflectionTestUtils.setField(bookImportService, "bookImportExecutor", rejectingExecutor);
+
+        assertThrows(ImportQueueFullException.class, () -> bookImportService.submit(file("books.csv", "text/csv", "title,author,price\n")));
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(bookImportService, "jobs")).isEmpty());
+    }
+
+    @Test
+    public void getJob_whenKnown_returnsJob() throws Exception {
+        final var job = bookImportService.submit(file("books.csv", "text/csv", "title,author,price\n"));
+        assertSame(job, bookImportService.getJob(job.getId()));
+    }
+
+    @Test
+    public void getJob_whenUnknown_throwsException() {
+        assertThrows(ImportJobNotFoundException.class, () -> bookImportService.getJob("missing"));
+    }
+
+    @Test
+    public void splitCsvLine_handlesQuotedFields() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), BookImportService.splitCsvLine("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+
+    private static MockMultipartFile file(final String name, final String contentType, final String content) {
+        return new MockMultipartFile("file", name, contentType, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.Bookstore.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+public class AsyncLoggingTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    @Test
+    public void rootLogger_writesThroughBoundedAsyncQueues() {
+        final var root = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+
+        final var file = assertInstanceOf(AsyncAppender.class, root.getAppender("ASYNC_FILE"));
+        assertEquals(8192, file.getQueueSize());
+        assertTrue(file.isStarted());
+        assertNotNull(meterRegistry.find("bookstore.logging.queue.remaining").tag("appender", "ASYNC_FILE").gauge());
+    }
+
+    @Test
+    public void loggersActuator_switchesLevelAtRuntime() throws Exception {
+        final var mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        try {
+            mockMvc.perform(post("/actuator/loggers/com.example.Bookstore.exception")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"configuredLevel\":\"DEBUG\"}"))
+                    .andExpect(status().isNoContent());
+
+            assertTrue(LoggerFactory.getLogger("com.example.Bookstore.exception.GlobalRestExceptionHandler").isDebugEnabled());
+        } finally {
+            loggingSystem.setLogLevel("com.example.Bookstore.exception", null);
+        }
+        assertEquals(LogLevel.INFO, loggingSystem.getLoggerConfiguration("com.example.Bookstore.exception").getEffectiveLevel());
+    }
+}
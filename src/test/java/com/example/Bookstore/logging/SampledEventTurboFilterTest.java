@@ -0,0 +1,66 @@
+package com.example.Bookstore.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SampledEventTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void setUp() {
+        context = new LoggerContext();
+        final var filter = new SampledEventTurboFilter();
+        filter.setEvery(3);
+        context.addTurboFilter(filter);
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        final var root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    @Test
+    public void decide_whenSampled_writesOneInEveryPerTemplate() {
+        final var logger = context.getLogger("books");
+        for (var id = 1; id <= 7; id++) {
+            logger.debug(SampledEventTurboFilter.SAMPLED, "Book {} not found", id);
+            logger.debug(SampledEventTurboFilter.SAMPLED, "Bulkhead {} full", id);
+        }
+
+        assertEquals(6, appender.list.size());
+        assertEquals("Book 1 not found,Bulkhead 1 full,Book 4 not found,Bulkhead 4 full,Book 7 not found,Bulkhead 7 full",
+                String.join(",", appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList()));
+    }
+
+    @Test
+    public void decide_whenNotSampled_writesEveryEvent() {
+        final var logger = context.getLogger("books");
+        for (var id = 1; id <= 5; id++) {
+            logger.debug("Book {} saved", id);
+        }
+
+        assertEquals(5, appender.list.size());
+    }
+
+    @Test
+    public void decide_whenLevelDisabled_doesNotCountTowardsTheSample() {
+        final var logger = context.getLogger("books");
+        logger.setLevel(Level.INFO);
+        for (var id = 1; id <= 5; id++) {
+            logger.debug(SampledEventTurboFilter.SAMPLED, "Book {} not found", id);
+        }
+        logger.setLevel(Level.DEBUG);
+        logger.debug(SampledEventTurboFilter.SAMPLED, "Book {} not found", 6);
+
+        assertEquals("Book 6 not found", appender.list.getFirst().getFormattedMessage());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Bookstore.repository;
+
+import com.example.Bookstore.model.Book;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// The change feed relay polls on its own thread every 100ms; slowed down so its queries do not land in the statistics
+@SpringBootTest(properties = "bookstore.books.changes.poll-interval-ms=3600000")
+@ActiveProfiles("l2cache")
+public class BookRepositoryL2CacheTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void findById_whenLoadedTwice_isServedFromSecondLevelCache() {
+        final var id = save("Second Level Book").getId();
+        entityManagerFactory.getCache().evict(Book.class);
+
+        bookRepository.findById(id);
+        final var statements = statistics.getPrepareStatementCount();
+        bookRepository.findById(id);
+
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("book").getHitCount());
+    }
+
+    @Test
+    public void listAndSearchQueries_whenRepeated_areServedFromQueryCache() {
+        save("Query Cached Book");
+
+        bookRepository.findAllByOrderByIdAsc(Limit.of(5));
+        bookRepository.findAllByOrderByIdAsc(Limit.of(5));
+        bookRepository.findBy(BookSpecifications.titleStartsWith("query cached"), q -> q.sortBy(Sort.by("id")).limit(5).all());
+        bookRepository.findBy(BookSpecifications.titleStartsWith("query cached"), q -> q.sortBy(Sort.by("id")).limit(5).all());
+
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void regionStatistics_arePublishedAsMetrics() {
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "book").functionCounter());
+    }
+
+    private Book save(final String title) {
+        final var book = new Book();
+        book.setTitle(title);
+        book.setAuthor("Cache Author");
+        book.setPrice(new BigDecimal("12.50"));
+        return bookRepository.save(book);
+    }
+}
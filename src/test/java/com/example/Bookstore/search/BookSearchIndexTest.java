@@ -0,0 +1,139 @@
+package com.example.Bookstore.search;
+
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookSearchHitDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BookSearchIndexTest {
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        bookSearchIndex = new BookSearchIndex();
+        bookSearchIndex.index(book(1L, "Harry Potter and the Philosopher's Stone", "J.K. Rowling"));
+        bookSearchIndex.index(book(2L, "Harry Potter and the Chamber of Secrets", "J.K. Rowling"));
+        bookSearchIndex.index(book(3L, "The Casual Vacancy", "J.K. Rowling"));
+        bookSearchIndex.index(book(4L, "Harry's Game", "Gerald Seymour"));
+    }
+
+    @Test
+    public void search_whenTokensMatch_ranksMoreMatchesFirst() {
+        final var hits = bookSearchIndex.search("harry potter chamber", 10);
+
+        assertEquals(List.of(2L, 1L, 4L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    public void search_whenTitleAndAuthorMatch_titleWeighsMore() {
+        bookSearchIndex.index(book(5L, "Rowling Biography", "Sean Smith"));
+
+        final var hits = bookSearchIndex.search("ROWLING", 10);
+
+        assertEquals(5L, hits.getFirst().id());
+        assertEquals(4, hits.size());
+    }
+
+    @Test
+    public void search_whenLimitSmallerThanMatches_returnsTopHitsOnly() {
+        assertEquals(List.of(3L, 1L), ids(bookSearchIndex.search("casual potter", 2)));
+    }
+
+    @Test
+    public void index_whenBookUpdated_replacesOldTokens() {
+        bookSearchIndex.index(book(3L, "Cuckoo's Calling", "Robert Galbraith"));
+
+        assertTrue(bookSearchIndex.search("vacancy", 10).isEmpty());
+        assertEquals(List.of(3L), ids(bookSearchIndex.search("galbraith", 10)));
+        assertEquals(4, bookSearchIndex.size());
+    }
+
+    @Test
+    public void remove_whenBooksDeleted_dropsThemFromResults() {
+        bookSearchIndex.remove(1L);
+        bookSearchIndex.removeRange(3L, 4L);
+
+        assertEquals(List.of(2L), ids(bookSearchIndex.search("harry", 10)));
+        assertEquals(1, bookSearchIndex.size());
+    }
+
+    @Test
+    public void removeRange_whenRangeSharesTokensWithRemainingBooks_keepsTheirPostings() {
+        bookSearchIndex.removeRange(2L, 3L);
+
+        assertEquals(List.of(1L, 4L), ids(bookSearchIndex.search("harry", 10)).stream().sorted().toList());
+        assertEquals(List.of(1L), ids(bookSearchIndex.search("rowling", 10)));
+        assertTrue(bookSearchIndex.search("vacancy", 10).isEmpty());
+        assertEquals(2, bookSearchIndex.size());
+    }
+
+    @Test
+    public void removeRange_whenRangeCoversWholeIndex_clearsIt() {
+        bookSearchIndex.removeRange(0L, 100L);
+
+        assertTrue(bookSearchIndex.search("harry", 10).isEmpty());
+        assertEquals(0, bookSearchIndex.size());
+        bookSearchIndex.index(book(5L, "Harry Potter and the Prisoner", "J.K. Rowling"));
+        assertEquals(List.of(5L), ids(bookSearchIndex.search("harry", 10)));
+    }
+
+    @Test
+    public void search_whenCommonTokensFillTheTopHits_stillFindsRareMatchesAndLowestIds() {
+        for (var id = 10L; id < 2_000L; id++) {
+            bookSearchIndex.index(book(id, "Common Saga " + (id % 7 == 0 ? "Sevens " : "") + id, "Crowd Author"));
+        }
+
+        // The rare 1234 outranks everything, then the sevens from the lowest id up; books with only "saga" rank last
+        assertEquals(List.of(1234L, 14L, 21L, 28L), ids(bookSearchIndex.search("saga sevens 1234", 4)));
+        assertEquals(List.of(10L, 11L, 12L), ids(bookSearchIndex.search("saga crowd", 3)));
+        assertEquals(List.of(1999L), ids(bookSearchIndex.search("1999", 3)));
+    }
+
+    @Test
+    public void index_whenBooksAreRemovedAndAdded_reusesStorageAndKeepsLookups() {
+        for (var id = 10L; id < 1_000L; id++) {
+            bookSearchIndex.index(book(id, "Churn Title " + id, "Churn Author"));
+        }
+        for (var id = 10L; id < 1_000L; id += 2) {
+            bookSearchIndex.remove(id);
+        }
+        bookSearchIndex.removeRange(500L, 599L);
+        for (var id = 2_000L; id < 2_100L; id++) {
+            bookSearchIndex.index(book(id, "Churn Title " + id, "Churn Author"));
+        }
+
+        assertEquals(4 + 495 - 50 + 100, bookSearchIndex.size());
+        assertTrue(bookSearchIndex.search("12", 10).isEmpty());
+        assertTrue(bookSearchIndex.search("555", 10).isEmpty());
+        assertEquals(List.of(13L), ids(bookSearchIndex.search("13", 10)));
+        assertEquals("Churn Title 2050", bookSearchIndex.search("2050", 10).getFirst().title());
+        assertEquals(List.of(11L, 13L, 15L), ids(bookSearchIndex.search("churn", 3)));
+    }
+
+    @Test
+    public void search_whenQueryHasNoTokens_returnsEmpty() {
+        assertTrue(bookSearchIndex.search(" ?! ", 10).isEmpty());
+        assertTrue(bookSearchIndex.search("unknown", 10).isEmpty());
+    }
+
+    private static List<Long> ids(final List<BookSearchHitDTO> hits) {
+        return hits.stream().map(BookSearchHitDTO::id).toList();
+    }
+
+    private static Book book(final Long id, final String title, final String author) {
+        final var book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setAuthor(author);
+        book.setPrice(new BigDecimal("10.00"));
+        return book;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.Bookstore.service;
+
+import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.payload.BookBatchOperationDTO;
+import com.example.Bookstore.payload.BookBatchResultDTO;
+import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class BookServiceBatchTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    public void executeBatch_appliesMixedOperationsAndReportsEachInRequestOrder() {
+        // addBook caches both books, so the batch has to refresh one cache entry and evict the other
+        final var toUpdate = bookService.addBook(new BookDTO("Batch Update Before", "Batch Author", BigDecimal.ONE));
+        final var toDelete = bookService.addBook(new BookDTO("Batch Delete Target", "Batch Author", BigDecimal.ONE));
+        final var before = bookRepository.count();
+
+        final var results = bookService.executeBatch(List.of(
+                new BookBatchOperationDTO(BookBatchOperationType.DELETE, toDelete.getId(), null),
+                new BookBatchOperationDTO(BookBatchOperationType.UPDATE, toUpdate.getId(), new BookDTO("Batch Update After", "Batch Author", BigDecimal.TEN)),
+                new BookBatchOperationDTO(BookBatchOperationType.CREATE, null, new BookDTO("Batch Created Book", "Batch Author", BigDecimal.TWO)),
+                new BookBatchOperationDTO(BookBatchOperationType.UPDATE, Long.MAX_VALUE, new BookDTO("Batch Missing Book", "Batch Author", BigDecimal.TEN)),
+                new BookBatchOperationDTO(BookBatchOperationType.CREATE, null, new BookDTO("Short", "Batch Author", BigDecimal.TEN)),
+                new BookBatchOperationDTO(BookBatchOperationType.DELETE, toUpdate.getId(), null)));
+
+        assertEquals(List.of(200, 200, 201, 404, 400, 409), results.stream().map(BookBatchResultDTO::status).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(BookBatchResultDTO::index).toList());
+        assertEquals(1L, results.get(1).book().getVersion());
+        assertTrue(results.get(4).errors().get(0).startsWith("book.title: "));
+        assertNull(results.get(0).book());
+
+        assertEquals(before, bookRepository.count());
+        assertEquals("Batch Update After", bookService.getBookById(toUpdate.getId()).getTitle());
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookById(toDelete.getId()));
+        assertEquals(1, bookService.searchFullText("created", 10).stream()
+                .filter(hit -> hit.id().equals(results.get(2).id())).count());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.Bookstore.service;
+
+import com.example.Bookstore.config.CacheConfig;
+import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class BookServiceCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cache booksCache;
+
+    @BeforeEach
+    public void setUp() {
+        booksCache = cacheManager.getCache(CacheConfig.BOOKS_CACHE);
+        assertNotNull(booksCache);
+        booksCache.clear();
+    }
+
+    @Test
+    public void getBookById_whenCalledTwice_servesSecondCallFromCache() {
+        final var book = bookService.addBook(new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("45.00")));
+        booksCache.clear();
+
+        bookService.getBookById(book.getId());
+        final var cached = booksCache.get(book.getId(), Book.class);
+
+        assertNotNull(cached);
+        assertEquals(cached, bookService.getBookById(book.getId()));
+        assertTrue(meterRegistry.get("cache.gets").tag("cache", CacheConfig.BOOKS_CACHE).tag("result", "hit").functionCounter().count() >= 1);
+    }
+
+    @Test
+    public void updateBook_whenCached_replacesCachedPrice() {
+        final var book = bookService.addBook(new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("45.00")));
+        bookService.getBookById(book.getId());
+
+        bookService.updateBook(book.getId(), new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("39.99")));
+
+        assertEquals(new BigDecimal("39.99"), bookService.getBookById(book.getId()).getPrice());
+    }
+
+    @Test
+    public void writes_whenTransactionRollsBack_leaveCacheUntouched() {
+        final var book = bookService.addBook(new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("45.00")));
+        final var rolledBack = new Book[1];
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rolledBack[0] = bookService.addBook(new BookDTO("Phantom Cached Book", "Eric Evans", new BigDecimal("45.00")));
+            bookService.updateBook(book.getId(), new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("1.00")));
+            // Not applied until commit, so nothing has been put yet
+            assertNull(booksCache.get(rolledBack[0].getId()));
+            status.setRollbackOnly();
+        });
+
+        assertNull(booksCache.get(rolledBack[0].getId()));
+        assertEquals(new BigDecimal("45.00"), booksCache.get(book.getId(), Book.class).getPrice());
+        assertEquals(new BigDecimal("45.00"), bookService.getBookById(book.getId()).getPrice());
+    }
+
+    @Test
+    public void deleteBookById_whenCached_evictsEntry() {
+        final var book = bookService.addBook(new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("45.00")));
+        assertNotNull(booksCache.get(book.getId()));
+
+        bookService.deleteBookById(book.getId());
+
+        assertNull(booksCache.get(book.getId()));
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookById(book.getId()));
+    }
+
+    @Test
+    public void purgeBooks_whenCached_deletesRowsAndClearsCache() {
+        final var book = bookService.addBook(new BookDTO("Domain-Driven Design", "Eric Evans", new BigDecimal("45.00")));
+        assertNotNull(booksCache.get(book.getId()));
+
+        assertTrue(bookService.purgeBooks() >= 1);
+
+        assertNull(booksCache.get(book.getId()));
+        assertTrue(bookService.getBooks().isEmpty());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.Bookstore.service;
+
+import com.example.Bookstore.payload.BookDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class BookServiceMetricsTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void serviceMethods_areTimedWithPercentilesAndSlos() {
+        bookService.addBook(new BookDTO("Metrics Timed Book", "Timer Author", new BigDecimal("10.00")));
+
+        final var timer = meterRegistry.get("bookstore.book.service")
+                .tag("class", BookService.class.getName())
+                .tag("method", "addBook")
+                .timer();
+        assertTrue(timer.count() >= 1);
+        final var snapshot = timer.takeSnapshot();
+        assertTrue(Arrays.stream(snapshot.percentileValues()).anyMatch(p -> p.percentile() == 0.99));
+        assertTrue(Arrays.stream(snapshot.histogramCounts()).anyMatch(b -> b.bucket(TimeUnit.MILLISECONDS) == 250));
+    }
+
+    @Test
+    public void repositoryCalls_areTimed() {
+        bookService.getBooks();
+
+        assertTrue(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "BookRepository")
+                .tag("method", "findAll")
+                .timer()
+                .count() >= 1);
+    }
+}
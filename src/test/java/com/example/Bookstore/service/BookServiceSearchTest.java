@@ -0,0 +1,91 @@
+package com.example.Bookstore.service;
+
+import com.example.Bookstore.changes.BookChangeFeed;
+import com.example.Bookstore.model.Book;
+import com.example.Bookstore.payload.BookDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+public class BookServiceSearchTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookCatalogVersion bookCatalogVersion;
+
+    @Autowired
+    private BookChangeFeed bookChangeFeed;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void searchBooks_whenTitlePrefixInAnyCase_returnsMatchesPagedById() {
+        bookService.addBooks(List.of(
+                new BookDTO("Quixotic Tales Vol 1", "Cervantes", new BigDecimal("10.00")),
+                new BookDTO("QUIXOTIC Tales Vol 2", "Cervantes", new BigDecimal("20.00")),
+                new BookDTO("Quixotic Tales Vol 3", "Cervantes", new BigDecimal("30.00"))));
+
+        final var firstPage = bookService.searchBooks("quixotic t", null, null, null, null, 2);
+        assertEquals(List.of("Quixotic Tales Vol 1", "QUIXOTIC Tales Vol 2"), firstPage.books().stream().map(Book::getTitle).toList());
+        assertNotNull(firstPage.nextCursor());
+
+        final var secondPage = bookService.searchBooks("quixotic t", null, null, null, firstPage.nextCursor(), 2);
+        assertEquals(List.of("Quixotic Tales Vol 3"), secondPage.books().stream().map(Book::getTitle).toList());
+        assertNull(secondPage.nextCursor());
+    }
+
+    @Test
+    public void searchBooks_whenAuthorAndPriceRange_returnsOnlyMatches() {
+        bookService.addBooks(List.of(
+                new BookDTO("Ficciones Collected", "Jorge Borges", new BigDecimal("12.50")),
+                new BookDTO("The Aleph Collected", "Jorge Borges", new BigDecimal("55.00")),
+                new BookDTO("Labyrinths Collected", "JORGE BORGES", new BigDecimal("25.00"))));
+
+        final var page = bookService.searchBooks(null, "jorge b", new BigDecimal("12.50"), new BigDecimal("30.00"), null, 10);
+
+        assertEquals(List.of("Ficciones Collected", "Labyrinths Collected"), page.books().stream().map(Book::getTitle).toList());
+    }
+
+    @Test
+    public void searchBooks_whenPrefixContainsWildcards_matchesThemLiterally() {
+        bookService.addBook(new BookDTO("100% Pure Wildcards", "Percent Author", new BigDecimal("9.99")));
+
+        assertEquals(1, bookService.searchBooks("100%", "percent", null, null, null, 10).books().size());
+        assertEquals(0, bookService.searchBooks("1_0", "percent", null, null, null, 10).books().size());
+    }
+
+    @Test
+    public void addBook_whenTransactionRollsBack_leavesIndexAndCatalogVersionUntouched() {
+        bookChangeFeed.relay();
+        final var etag = bookCatalogVersion.etag();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookService.addBook(new BookDTO("Rolled Back Volume", "Undo Author", new BigDecimal("5.00")));
+            status.setRollbackOnly();
+        });
+        bookChangeFeed.relay();
+
+        assertTrue(bookService.searchFullText("rolled back volume", 10).isEmpty());
+        assertEquals(etag, bookCatalogVersion.etag());
+
+        bookService.addBook(new BookDTO("Committed Volume", "Undo Author", new BigDecimal("5.00")));
+        bookChangeFeed.relay();
+
+        assertEquals(1, bookService.searchFullText("committed volume", 10).size());
+        assertNotEquals(etag, bookCatalogVersion.etag());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Bookstore.service;
+
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+public class BookServiceStreamTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    public void addBooksStream_whenFailFastRejects_rollsBackEarlierRecords() {
+        final var before = bookRepository.count();
+
+        assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Stream Rollback One","author":"Stream Author","price":10.0},
+                 {"title":"Short","author":"Stream Author","price":10.0}]
+                """), BulkValidationMode.FAIL_FAST));
+
+        assertEquals(before, bookRepository.count());
+        assertEquals(0, bookService.searchFullText("rollback", 10).size());
+    }
+
+    @Test
+    public void addBooksStream_whenCollectRejects_keepsValidRecords() {
+        final var before = bookRepository.count();
+
+        assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Stream Collected One","author":"Stream Author","price":10.0},
+                 {"title":"Short","author":"Stream Author","price":10.0}]
+                """), BulkValidationMode.COLLECT));
+
+        assertEquals(before + 1, bookRepository.count());
+        assertEquals(1, bookService.searchFullText("collected", 10).size());
+    }
+
+    private static ByteArrayInputStream json(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,37 +1,79 @@
 package com.example.Bookstore.service;
 
 import com.example.Bookstore.exception.BookNotFoundException;
+import com.example.Bookstore.exception.BookValidationException;
+import com.example.Bookstore.exception.InvalidCursorException;
 import com.example.Bookstore.model.Book;
 import com.example.Bookstore.payload.BookDTO;
+import com.example.Bookstore.repository.BookChangeEventRepository;
 import com.example.Bookstore.repository.BookRepository;
+import com.example.Bookstore.search.BookSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@DisabledInNativeImage
 public class BookServiceTest {
 
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookChangeEventRepository bookChangeEventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
     @InjectMocks
     private BookService bookService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bookService, "defaultPageSize", 2);
+        ReflectionTestUtils.setField(bookService, "maxPageSize", 3);
+        ReflectionTestUtils.setField(bookService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(bookService, "importChunkSize", 1000);
+        ReflectionTestUtils.setField(bookService, "deleteChunkSize", 10);
+        ReflectionTestUtils.setField(bookService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(bookService, "maxValidationErrors", 100);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -61,6 +103,75 @@ public class BookServiceTest {
         verify(bookRepository, times(1)).findAll();
     }
 
+    @Test
+    public void getBooksPage_whenMoreBooksExist_returnsNextCursor() {
+        final var mockBook1 = new Book();
+        mockBook1.setId(1L);
+        mockBook1.setTitle("Clean Code");
+        final var mockBook2 = new Book();
+        mockBook2.setId(2L);
+        mockBook2.setTitle("Harry Potter");
+        final var mockBook3 = new Book();
+        mockBook3.setId(3L);
+        mockBook3.setTitle("Refactoring");
+        when(bookRepository.findAllByOrderByIdAsc(Limit.of(3))).thenReturn(List.of(mockBook1, mockBook2, mockBook3));
+        final var page = bookService.getBooksPage(null, null);
+
+        assertEquals(2, page.books().size());
+        assertEquals(2, page.size());
+        assertNotNull(page.nextCursor());
+
+        when(bookRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3))).thenReturn(List.of(mockBook3));
+        final var nextPage = bookService.getBooksPage(page.nextCursor(), null);
+
+        assertEquals("Refactoring", nextPage.books().getFirst().getTitle());
+        assertNull(nextPage.nextCursor());
+        verify(bookRepository, times(1)).findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3));
+    }
+
+    @Test
+    public void getBooksPage_whenSizeAboveCap_clampsToMaxSize() {
+        when(bookRepository.findAllByOrderByIdAsc(Limit.of(4))).thenReturn(List.of());
+        final var page = bookService.getBooksPage(null, 1000);
+
+        assertEquals(3, page.size());
+        assertNull(page.nextCursor());
+        verify(bookRepository, times(1)).findAllByOrderByIdAsc(Limit.of(4));
+    }
+
+    @Test
+    public void getBooksPage_whenCursorInvalid_throwsException() {
+        assertThrows(InvalidCursorException.class, () -> bookService.getBooksPage("not-a-cursor!", 2));
+    }
+
+    @Test
+    public void exportBooks_whenBooksExist_writesOneJsonLinePerBook() throws Exception {
+        final var mockBook1 = new Book();
+        mockBook1.setId(1L);
+        mockBook1.setTitle("Clean Code");
+        final var mockBook2 = new Book();
+        mockBook2.setId(2L);
+        mockBook2.setTitle("Harry Potter");
+        when(bookRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(mockBook1, mockBook2));
+        final var outputStream = new ByteArrayOutputStream();
+
+        assertEquals(2L, bookService.exportBooks(outputStream));
+        final var lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Clean Code", new ObjectMapper().readValue(lines[0], Book.class).getTitle());
+        assertEquals("Harry Potter", new ObjectMapper().readValue(lines[1], Book.class).getTitle());
+        verify(entityManager, times(1)).detach(mockBook1);
+        verify(entityManager, times(1)).detach(mockBook2);
+    }
+
+    @Test
+    public void searchFullText_whenLimitAboveCap_queriesIndexWithMaxSize() {
+        when(bookSearchIndex.search("clean code", 3)).thenReturn(List.of());
+        assertEquals(List.of(), bookService.searchFullText("clean code", 50));
+        verify(bookSearchIndex, times(1)).search("clean code", 3);
+        verify(bookRepository, times(0)).findAll();
+    }
+
     @Test
     public void getBookById_whenBookExists_returnsBook() {
         final var mockBook = new Book();
@@ -112,6 +223,62 @@ public class BookServiceTest {
         verify(bookRepository, times(0)).deleteAll();
     }
 
+    @Test
+    public void purgeBooks_whenBooksExist_deletesIdRangesInChunks() {
+        when(bookRepository.findIdsFrom(Long.MIN_VALUE, Limit.of(10))).thenReturn(LongStream.rangeClosed(1, 10).boxed().toList());
+        when(bookRepository.findIdsFrom(11L, Limit.of(10))).thenReturn(LongStream.rangeClosed(11, 20).boxed().toList());
+        when(bookRepository.findIdsFrom(21L, Limit.of(10))).thenReturn(List.of(21L, 22L, 25L));
+        when(bookRepository.deleteByIdRange(1L, 10L)).thenReturn(10);
+        when(bookRepository.deleteByIdRange(11L, 20L)).thenReturn(10);
+        when(bookRepository.deleteByIdRange(21L, 25L)).thenReturn(3);
+
+        assertEquals(23L, bookService.purgeBooks());
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(bookSearchIndex, times(1)).removeRange(21L, 25L);
+        verify(bookChangeEventRepository, times(1)).save(any());
+        verify(bookRepository, times(0)).findAll();
+        verify(bookRepository, times(0)).deleteAll();
+    }
+
+    @Test
+    public void purgeBooks_whenIdsAreSparse_chunksByRowsAndRecordsOnePurgeWithTheFirstDeletion() {
+        // Ids 100 apart, as pooled book_seq blocks leave them: two chunks, not one per 10 ids of the span
+        when(bookRepository.findIdsFrom(Long.MIN_VALUE, Limit.of(10))).thenReturn(LongStream.rangeClosed(1, 10).map(i -> i * 100).boxed().toList());
+        when(bookRepository.findIdsFrom(1001L, Limit.of(10))).thenReturn(List.of(1100L, 50_000L));
+        when(bookRepository.deleteByIdRange(100L, 1000L)).thenReturn(10);
+        when(bookRepository.deleteByIdRange(1100L, 50_000L)).thenReturn(2);
+
+        assertEquals(12L, bookService.purgeBooks());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(bookSearchIndex, times(1)).removeRange(100L, 1000L);
+        verify(bookSearchIndex, times(1)).removeRange(1100L, 50_000L);
+        verify(bookChangeEventRepository, times(1)).save(any());
+        // Saved inside the transaction callback of the first chunk that deleted rows
+        final var inOrder = inOrder(bookRepository, bookChangeEventRepository);
+        inOrder.verify(bookRepository).deleteByIdRange(100L, 1000L);
+        inOrder.verify(bookChangeEventRepository).save(any());
+        inOrder.verify(bookRepository).deleteByIdRange(1100L, 50_000L);
+    }
+
+    @Test
+    public void purgeBooks_whenChunkEndsAtMaxId_stopsWithoutWrappingAround() {
+        final var ids = LongStream.rangeClosed(Long.MAX_VALUE - 9, Long.MAX_VALUE).boxed().toList();
+        when(bookRepository.findIdsFrom(Long.MIN_VALUE, Limit.of(10))).thenReturn(ids);
+        when(bookRepository.deleteByIdRange(Long.MAX_VALUE - 9, Long.MAX_VALUE)).thenReturn(10);
+
+        assertEquals(10L, bookService.purgeBooks());
+        verify(bookRepository, times(1)).findIdsFrom(any(), any());
+    }
+
+    @Test
+    public void purgeBooks_whenBooksNotFound_returnsZero() {
+        when(bookRepository.findIdsFrom(Long.MIN_VALUE, Limit.of(10))).thenReturn(List.of());
+
+        assertEquals(0L, bookService.purgeBooks());
+        verify(transactionTemplate, times(0)).execute(any());
+        verify(bookChangeEventRepository, times(0)).save(any());
+    }
+
     @Test
     public void deleteBookById_whenBookExists_returnsBook() {
         final var mockBook = new Book();
@@ -127,6 +294,7 @@ public class BookServiceTest {
         assertEquals("Clean Code", found.getTitle());
         verify(bookRepository, times(1)).findById(1L);
         verify(bookRepository, times(1)).deleteById(1L);
+        verify(bookSearchIndex, times(1)).remove(1L);
     }
 
     @Test
@@ -153,6 +321,7 @@ public class BookServiceTest {
         final var found = bookService.addBook(mockBookDTO);
         assertEquals(1L, found.getId());
         verify(bookRepository, times(1)).save(mockBook);
+        verify(bookSearchIndex, times(1)).index(mockBookWithId);
     }
 
     @Test
@@ -193,6 +362,101 @@ public class BookServiceTest {
         verify(bookRepository, times(1)).saveAll(listOfBooks);
     }
 
+    @Test
+    public void addBooksStream_whenAllValid_savesChunkByChunk() {
+        ReflectionTestUtils.setField(bookService, "importChunkSize", 2);
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var summary = bookService.addBooks(json("""
+                [{"title":"Clean Code Book","author":"Robert Martin","price":40.0},
+                 {"title":"Harry Potter Book","author":"J.K. Rowling","price":499.99},
+                 {"title":"Refactoring Code","author":"Martin Fowler","price":50.0}]
+                """), BulkValidationMode.COLLECT);
+
+        assertEquals(3L, summary.created());
+        verify(bookRepository, times(2)).saveAll(any());
+        verify(bookSearchIndex, times(2)).indexAll(any());
+    }
+
+    @Test
+    public void addBooksStream_whenFailFast_stopsAtFirstInvalidAndIndexesNothing() {
+        ReflectionTestUtils.setField(bookService, "importChunkSize", 1);
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var exception = assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Clean Code Book","author":"Robert Martin","price":40.0},
+                 {"title":"Short","author":"J.K. Rowling","price":499.99},
+                 {"title":"","author":"","price":50.0}]
+                """), BulkValidationMode.FAIL_FAST));
+
+        assertEquals("Validation failed at index 1", exception.getMessage());
+        assertEquals(List.of("[1].title: size must be between 10 and 30"), exception.getValidationErrors());
+        verify(bookRepository, times(1)).saveAll(any());
+        verify(bookSearchIndex, times(0)).indexAll(any());
+    }
+
+    @Test
+    public void addBooksStream_whenCollect_keepsValidAndReportsEveryIndex() {
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final var exception = assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Short","author":"Robert Martin","price":40.0},
+                 {"title":"Harry Potter Book","author":"J.K. Rowling","price":499.99},
+                 {"title":"Refactoring Code","author":"","price":50.0}]
+                """), BulkValidationMode.COLLECT));
+
+        assertEquals("Validation failed for 2 of 3 books, 1 created", exception.getMessage());
+        assertEquals(List.of("[0].title: size must be between 10 and 30", "[2].author: must not be blank", "[2].author: size must be between 5 and 15"),
+                exception.getValidationErrors());
+        verify(bookRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    public void addBooksStream_whenCollect_capsErrorsAtMaxValidationErrors() {
+        ReflectionTestUtils.setField(bookService, "maxValidationErrors", 2);
+
+        final var exception = assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Short","author":"Robert Martin","price":40.0},
+                 {"title":"Refactoring Code","author":"","price":50.0},
+                 {"title":"Short","author":"","price":50.0}]
+                """), BulkValidationMode.COLLECT));
+
+        assertEquals("Validation failed for 3 of 3 books, 0 created", exception.getMessage());
+        assertEquals(List.of("[0].title: size must be between 10 and 30", "[1].author: must not be blank"), exception.getValidationErrors());
+    }
+
+    @Test
+    public void addBooksStream_whenMalformed_reportsIndex() {
+        final var exception = assertThrows(BookValidationException.class, () -> bookService.addBooks(json("""
+                [{"title":"Clean Code Book","author":"Robert Martin","price":40.0},
+                 {"title":"Harry Potter Book","author":"J.K. Rowling","price":"abc"}]
+                """), BulkValidationMode.FAIL_FAST));
+
+        assertTrue(exception.getMessage().startsWith("Malformed payload at index 1"));
+    }
+
+    @Test
+    public void addBooksStream_whenNotAnArray_throwsException() {
+        assertThrows(BookValidationException.class, () -> bookService.addBooks(json("{\"title\":\"Clean Code Book\"}"), BulkValidationMode.FAIL_FAST));
+    }
+
+    @Test
+    public void addListOfBooksDTO_whenLargerThanChunk_savesChunkByChunk() {
+        ReflectionTestUtils.setField(bookService, "importChunkSize", 2);
+        final var mockBookDTO1 = new BookDTO("Clean Code", "Robert C. Martin", new BigDecimal("40.0"));
+        final var mockBookDTO2 = new BookDTO("Harry Potter", "J.K. Rowling", new BigDecimal("499.99"));
+        final var mockBookDTO3 = new BookDTO("Refactoring", "Martin Fowler", new BigDecimal("50.0"));
+        when(bookRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        final var found = bookService.addBooks(List.of(mockBookDTO1, mockBookDTO2, mockBookDTO3));
+
+        assertEquals(3, found.size());
+        assertEquals("Refactoring", found.get(2).getTitle());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(bookRepository, times(2)).saveAll(any());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
     @Test
     public void addListOfBooksDTO_whenNull_returnsNull() {
         final var found = bookService.addBooks(null);
@@ -233,4 +497,8 @@ public class BookServiceTest {
         assertThrows(BookNotFoundException.class, () -> bookService.updateBook(2L, mockBookDTO));
         verify(bookRepository, times(1)).findById(2L);
     }
+
+    private static ByteArrayInputStream json(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,104 @@
+package com.example.Bookstore.throttling;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BookRequestThrottlingInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private BookRequestThrottlingInterceptor interceptor;
+
+    private BulkheadRegistry bulkheadRegistry;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+        final var rateLimiterRegistry = RateLimiterRegistry.of(Map.of(BookRequestThrottlingInterceptor.WRITE, RateLimiterConfig.custom()
+                .limitForPeriod(2).limitRefreshPeriod(Duration.ofHours(1)).timeoutDuration(Duration.ZERO).build()));
+        meterRegistry = new SimpleMeterRegistry();
+
+        interceptor = new BookRequestThrottlingInterceptor();
+        ReflectionTestUtils.setField(interceptor, "bulkheadRegistry", bulkheadRegistry);
+        ReflectionTestUtils.setField(interceptor, "rateLimiterRegistry", rateLimiterRegistry);
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    public void preHandle_whenClientExceedsWriteRate_rejectsOnlyThatClient() {
+        write("10.0.0.1");
+        write("10.0.0.1");
+
+        assertThrows(RequestNotPermitted.class, () -> interceptor.preHandle(request("POST", "10.0.0.1"), response, null));
+        assertDoesNotThrow(() -> write("10.0.0.2"));
+        assertEquals(1, meterRegistry.counter(BookRequestThrottlingInterceptor.SHED_METER, "reason", "rate_limit", "name", BookRequestThrottlingInterceptor.WRITE).count());
+    }
+
+    @Test
+    public void preHandle_whenReadsAreNotRateLimited_admitsEveryCompletedRead() {
+        for (var i = 0; i < 5; i++) {
+            final var request = request("GET", "10.0.0.1");
+            assertTrue(interceptor.preHandle(request, response, null));
+            interceptor.afterCompletion(request, response, null, null);
+        }
+    }
+
+    @Test
+    public void preHandle_whenWriteBulkheadFull_rejectsWritesButNotReads() {
+        final var running = request("DELETE", "10.0.0.1");
+        interceptor.preHandle(running, response, null);
+
+        assertThrows(BulkheadFullException.class, () -> interceptor.preHandle(request("PUT", "10.0.0.2"), response, null));
+        assertTrue(interceptor.preHandle(request("GET", "10.0.0.2"), response, null));
+        assertEquals(1, meterRegistry.counter(BookRequestThrottlingInterceptor.SHED_METER, "reason", "bulkhead", "name", BookRequestThrottlingInterceptor.WRITE).count());
+
+        interceptor.afterCompletion(running, response, null, null);
+        assertEquals(1, bulkheadRegistry.bulkhead(BookRequestThrottlingInterceptor.WRITE).getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    public void preHandle_whenAsyncDispatch_reusesPermitOfOriginalDispatch() throws Exception {
+        final var request = request("GET", "10.0.0.1");
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(1, bulkheadRegistry.bulkhead(BookRequestThrottlingInterceptor.READ).getMetrics().getAvailableConcurrentCalls());
+    }
+
+    private void write(final String client) {
+        final var request = request("POST", client);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    private static MockHttpServletRequest request(final String method, final String client) {
+        final var request = new MockHttpServletRequest(method, "/api/v1/books");
+        request.setRemoteAddr(client);
+        return request;
+    }
+}